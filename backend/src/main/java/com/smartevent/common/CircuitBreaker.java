@@ -0,0 +1,223 @@
+package com.smartevent.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker.
+ *
+ * <p>CLOSED records the outcome of the last {@code windowSize} calls and opens when, after at
+ * least {@code minimumCalls}, the failure rate or the slow-call rate reaches its threshold. OPEN
+ * rejects calls until {@code openDuration} has passed, then HALF_OPEN lets
+ * {@code halfOpenCalls} trial calls through and closes or re-opens based on their outcome.</p>
+ *
+ * <p>Uses a {@link ReentrantLock} rather than {@code synchronized} so virtual threads never pin.</p>
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    public record Transition(State from, State to) {
+    }
+
+    public static class CallNotPermittedException extends RuntimeException {
+
+        public CallNotPermittedException(String name) {
+            super("Circuit breaker '" + name + "' is open");
+        }
+    }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoTime;
+    private final Consumer<Transition> transitionListener;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final byte[] outcomes;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermitted;
+    private int halfOpenCompleted;
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    public CircuitBreaker(String name,
+                          int windowSize,
+                          int minimumCalls,
+                          int failureRateThreshold,
+                          int slowCallRateThreshold,
+                          long slowCallMs,
+                          long openMs,
+                          int halfOpenCalls,
+                          Consumer<Transition> transitionListener) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold, slowCallMs, openMs,
+                halfOpenCalls, transitionListener, System::nanoTime);
+    }
+
+    CircuitBreaker(String name,
+                   int windowSize,
+                   int minimumCalls,
+                   int failureRateThreshold,
+                   int slowCallRateThreshold,
+                   long slowCallMs,
+                   long openMs,
+                   int halfOpenCalls,
+                   Consumer<Transition> transitionListener,
+                   LongSupplier nanoTime) {
+        if (windowSize <= 0 || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("windowSize and halfOpenCalls must be positive");
+        }
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(Math.max(minimumCalls, 1), windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMs);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMs);
+        this.halfOpenCalls = halfOpenCalls;
+        this.transitionListener = transitionListener;
+        this.nanoTime = nanoTime;
+        this.outcomes = new byte[windowSize];
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Reserves a call. Every granted permission must be followed by exactly one of
+     * {@link #onSuccess}, {@link #onError} or {@link #onCancel}.
+     */
+    public boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (nanoTime.getAsLong() - openedAt < openNanos) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermitted >= halfOpenCalls) {
+                    return false;
+                }
+                halfOpenPermitted++;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess(long durationNanos) {
+        record(durationNanos >= slowCallNanos ? SLOW : SUCCESS);
+    }
+
+    public void onError(long durationNanos) {
+        record(FAILURE);
+    }
+
+    /** Returns a permission whose call was abandoned without an outcome. */
+    public void onCancel() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && halfOpenPermitted > halfOpenCompleted) {
+                halfOpenPermitted--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(byte outcome) {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                // A call that started before the breaker opened; its outcome is already stale.
+                return;
+            }
+            push(outcome);
+            if (state == State.HALF_OPEN) {
+                halfOpenCompleted++;
+                if (halfOpenCompleted >= halfOpenCalls) {
+                    transitionTo(exceedsThresholds() ? State.OPEN : State.CLOSED);
+                }
+            } else if (recorded >= minimumCalls && exceedsThresholds()) {
+                transitionTo(State.OPEN);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void push(byte outcome) {
+        if (recorded == windowSize) {
+            byte evicted = outcomes[next];
+            if (evicted == FAILURE) {
+                failures--;
+            } else if (evicted == SLOW) {
+                slowCalls--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = outcome;
+        next = (next + 1) % windowSize;
+        if (outcome == FAILURE) {
+            failures++;
+        } else if (outcome == SLOW) {
+            slowCalls++;
+        }
+    }
+
+    private boolean exceedsThresholds() {
+        return failures * 100 >= failureRateThreshold * recorded
+                || slowCalls * 100 >= slowCallRateThreshold * recorded;
+    }
+
+    private void transitionTo(State target) {
+        State previous = state;
+        if (previous == target) {
+            return;
+        }
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+        halfOpenPermitted = 0;
+        halfOpenCompleted = 0;
+        if (target == State.OPEN) {
+            openedAt = nanoTime.getAsLong();
+        }
+        state = target;
+        if (transitionListener != null) {
+            transitionListener.accept(new Transition(previous, target));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.smartevent.common;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Aho-Corasick matcher that finds every keyword of a set of dictionaries in one pass over a text.
+ *
+ * <p>Each keyword is registered under a slot (0-63); {@link #match} returns the bit mask of slots
+ * with at least one hit. Matching is case-insensitive and word-bounded: {@code "ai"} matches
+ * "AI-powered" but not "said" or "Mountain". A keyword ending in {@code *} only needs a boundary
+ * at its start, so {@code "developer*"} also matches "developers".</p>
+ *
+ * <p>The automaton is compiled into a dense transition table over the keyword alphabet, so a scan
+ * costs one array lookup per character and allocates nothing. Instances are immutable and thread-safe.</p>
+ */
+public final class KeywordAutomaton {
+
+    public static final int MAX_SLOTS = Long.SIZE;
+
+    private final int alphabetSize;
+    private final int[] asciiClass;
+    private final Map<Character, Integer> otherClass;
+    private final int[] transitions;
+    private final int[][] outputs;
+    private final int[] keywordLength;
+    private final boolean[] keywordPrefix;
+    private final int[] keywordSlot;
+
+    private KeywordAutomaton(Builder builder) {
+        List<Builder.Keyword> keywords = new ArrayList<>(builder.keywords);
+        int count = keywords.size();
+        keywordLength = new int[count];
+        keywordPrefix = new boolean[count];
+        keywordSlot = new int[count];
+
+        asciiClass = new int[128];
+        Arrays.fill(asciiClass, -1);
+        otherClass = new HashMap<>();
+        int symbols = 0;
+        for (Builder.Keyword keyword : keywords) {
+            for (char c : keyword.text().toCharArray()) {
+                if (c < 128) {
+                    if (asciiClass[c] < 0) {
+                        asciiClass[c] = symbols++;
+                    }
+                } else if (!otherClass.containsKey(c)) {
+                    otherClass.put(c, symbols++);
+                }
+            }
+        }
+        alphabetSize = Math.max(symbols, 1);
+
+        // Trie construction; -1 marks a missing edge until the failure links fill it in.
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> own = new ArrayList<>();
+        trie.add(newRow());
+        own.add(new ArrayList<>());
+        for (int id = 0; id < count; id++) {
+            Builder.Keyword keyword = keywords.get(id);
+            keywordLength[id] = keyword.text().length();
+            keywordPrefix[id] = keyword.prefix();
+            keywordSlot[id] = keyword.slot();
+            int state = 0;
+            for (char c : keyword.text().toCharArray()) {
+                int symbol = symbolOf(c);
+                int next = trie.get(state)[symbol];
+                if (next < 0) {
+                    next = trie.size();
+                    trie.get(state)[symbol] = next;
+                    trie.add(newRow());
+                    own.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            own.get(state).add(id);
+        }
+
+        int states = trie.size();
+        transitions = new int[states * alphabetSize];
+        outputs = new int[states][];
+        int[] fail = new int[states];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+
+        int[] root = trie.get(0);
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            int child = root[symbol];
+            if (child < 0) {
+                transitions[symbol] = 0;
+            } else {
+                transitions[symbol] = child;
+                fail[child] = 0;
+                queue.add(child);
+            }
+        }
+        outputs[0] = toArray(own.get(0));
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            List<Integer> merged = new ArrayList<>(own.get(state));
+            for (int id : outputs[fail[state]]) {
+                merged.add(id);
+            }
+            outputs[state] = toArray(merged);
+
+            int[] row = trie.get(state);
+            for (int symbol = 0; symbol < alphabetSize; symbol++) {
+                int child = row[symbol];
+                if (child < 0) {
+                    transitions[state * alphabetSize + symbol] = transitions[fail[state] * alphabetSize + symbol];
+                } else {
+                    transitions[state * alphabetSize + symbol] = child;
+                    fail[child] = transitions[fail[state] * alphabetSize + symbol];
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** Bit mask of the slots with at least one word-bounded keyword hit in {@code text}. */
+    public long match(CharSequence text) {
+        if (text == null) {
+            return 0L;
+        }
+        long mask = 0L;
+        int state = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            int symbol = symbolOf(Character.toLowerCase(text.charAt(i)));
+            state = symbol < 0 ? 0 : transitions[state * alphabetSize + symbol];
+            for (int id : outputs[state]) {
+                long bit = 1L << keywordSlot[id];
+                if ((mask & bit) != 0) {
+                    continue;
+                }
+                int start = i - keywordLength[id] + 1;
+                if (start > 0 && isWordChar(text.charAt(start - 1))) {
+                    continue;
+                }
+                if (!keywordPrefix[id] && i + 1 < length && isWordChar(text.charAt(i + 1))) {
+                    continue;
+                }
+                mask |= bit;
+            }
+        }
+        return mask;
+    }
+
+    private int symbolOf(char c) {
+        if (c < 128) {
+            return asciiClass[c];
+        }
+        Integer symbol = otherClass.get(c);
+        return symbol == null ? -1 : symbol;
+    }
+
+    private int[] newRow() {
+        int[] row = new int[alphabetSize];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        int[] array = new int[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    public static final class Builder {
+
+        private record Keyword(String text, boolean prefix, int slot) {
+        }
+
+        private final Set<Keyword> keywords = new LinkedHashSet<>();
+
+        private Builder() {
+        }
+
+        /** Registers {@code keyword} under {@code slot}; blank keywords are ignored. */
+        public Builder add(String keyword, int slot) {
+            if (slot < 0 || slot >= MAX_SLOTS) {
+                throw new IllegalArgumentException("Slot must be between 0 and " + (MAX_SLOTS - 1) + ": " + slot);
+            }
+            if (keyword == null) {
+                return this;
+            }
+            String text = keyword.trim().toLowerCase(Locale.ROOT);
+            boolean prefix = text.endsWith("*");
+            if (prefix) {
+                text = text.substring(0, text.length() - 1).trim();
+            }
+            if (!text.isEmpty()) {
+                keywords.add(new Keyword(text, prefix, slot));
+            }
+            return this;
+        }
+
+        public Builder addAll(Iterable<String> keywords, int slot) {
+            if (keywords != null) {
+                for (String keyword : keywords) {
+                    add(keyword, slot);
+                }
+            }
+            return this;
+        }
+
+        public KeywordAutomaton build() {
+            return new KeywordAutomaton(this);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.smartevent.common;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded TTL cache for asynchronously loaded values.
+ *
+ * <ul>
+ *     <li>Concurrent misses for one key share a single load (single-flight).</li>
+ *     <li>Expired entries are returned immediately while one background refresh runs
+ *     (stale-while-revalidate).</li>
+ *     <li>A failed load keeps the previous value and backs off before the next refresh; callers
+ *     only see the failure when there is nothing stale to serve.</li>
+ * </ul>
+ */
+public class RefreshingCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final long ttlNanos;
+    private final long failureBackoffNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoTime;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong loadFailures = new AtomicLong();
+
+    public RefreshingCache(long ttlMs, long failureBackoffMs, int maxEntries) {
+        this(ttlMs, failureBackoffMs, maxEntries, System::nanoTime);
+    }
+
+    RefreshingCache(long ttlMs, long failureBackoffMs, int maxEntries, LongSupplier nanoTime) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.ttlNanos = ttlMs * 1_000_000L;
+        this.failureBackoffNanos = failureBackoffMs * 1_000_000L;
+        this.maxEntries = maxEntries;
+        this.nanoTime = nanoTime;
+    }
+
+    public CompletableFuture<V> get(K key, Supplier<CompletableFuture<V>> loader) {
+        Objects.requireNonNull(key, "key");
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            if (nanoTime.getAsLong() - entry.refreshAfterNanos() >= 0) {
+                staleHits.incrementAndGet();
+                load(key, loader);
+            } else {
+                hits.incrementAndGet();
+            }
+            return CompletableFuture.completedFuture(entry.value());
+        }
+
+        CompletableFuture<V> pending = inFlight.get(key);
+        if (pending != null) {
+            coalesced.incrementAndGet();
+            return pending.copy();
+        }
+        misses.incrementAndGet();
+        return load(key, loader).copy();
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long staleHitCount() {
+        return staleHits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    public long coalescedCount() {
+        return coalesced.get();
+    }
+
+    public long loadFailureCount() {
+        return loadFailures.get();
+    }
+
+    private CompletableFuture<V> load(K key, Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        CompletableFuture<V> source;
+        try {
+            source = Objects.requireNonNull(loader.get(), "loader returned null");
+        } catch (RuntimeException ex) {
+            source = CompletableFuture.failedFuture(ex);
+        }
+
+        source.whenComplete((value, error) -> {
+            if (error == null && value != null) {
+                store(key, value);
+                inFlight.remove(key, future);
+                future.complete(value);
+                return;
+            }
+
+            loadFailures.incrementAndGet();
+            Entry<V> stale = entries.get(key);
+            if (stale != null) {
+                entries.put(key, new Entry<>(stale.value(), nanoTime.getAsLong() + failureBackoffNanos));
+            }
+            inFlight.remove(key, future);
+            if (stale != null) {
+                future.complete(stale.value());
+            } else {
+                future.completeExceptionally(error != null ? error : new IllegalStateException("loader returned null"));
+            }
+        });
+        return future;
+    }
+
+    private void store(K key, V value) {
+        entries.put(key, new Entry<>(value, nanoTime.getAsLong() + ttlNanos));
+        while (entries.size() > maxEntries) {
+            evictEldest();
+        }
+    }
+
+    private void evictEldest() {
+        K eldestKey = null;
+        long eldest = Long.MAX_VALUE;
+        for (Map.Entry<K, Entry<V>> candidate : entries.entrySet()) {
+            long refreshAfter = candidate.getValue().refreshAfterNanos();
+            if (eldestKey == null || refreshAfter - eldest < 0) {
+                eldestKey = candidate.getKey();
+                eldest = refreshAfter;
+            }
+        }
+        if (eldestKey != null) {
+            entries.remove(eldestKey);
+        }
+    }
+
+    private record Entry<V>(V value, long refreshAfterNanos) {
+    }
+}
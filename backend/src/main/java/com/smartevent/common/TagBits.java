@@ -0,0 +1,77 @@
+package com.smartevent.common;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Tag sets as {@code long[]} bitsets over {@link TagDictionary} ids: bit {@code id & 63} of word
+ * {@code id >>> 6}. Arrays are trimmed, so two encodings of the same set are equal.
+ */
+public final class TagBits {
+
+    public static final long[] EMPTY = new long[0];
+
+    private TagBits() {
+    }
+
+    /** Encodes the given ids; negative ids (unknown or blank tags) are skipped. */
+    public static long[] of(int... ids) {
+        int max = -1;
+        for (int id : ids) {
+            max = Math.max(max, id);
+        }
+        if (max < 0) {
+            return EMPTY;
+        }
+        long[] bits = new long[(max >>> 6) + 1];
+        for (int id : ids) {
+            if (id >= 0) {
+                bits[id >>> 6] |= 1L << id;
+            }
+        }
+        return bits;
+    }
+
+    public static boolean isEmpty(long[] bits) {
+        if (bits == null) {
+            return true;
+        }
+        for (long word : bits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean contains(long[] bits, int id) {
+        return bits != null && id >= 0 && (id >>> 6) < bits.length && (bits[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /** The lowest id present in both sets, or -1 if they are disjoint. */
+    public static int firstCommon(long[] a, long[] b) {
+        if (a == null || b == null) {
+            return -1;
+        }
+        int words = Math.min(a.length, b.length);
+        for (int i = 0; i < words; i++) {
+            long common = a[i] & b[i];
+            if (common != 0) {
+                return (i << 6) + Long.numberOfTrailingZeros(common);
+            }
+        }
+        return -1;
+    }
+
+    public static void forEach(long[] bits, IntConsumer action) {
+        if (bits == null) {
+            return;
+        }
+        for (int i = 0; i < bits.length; i++) {
+            long word = bits[i];
+            while (word != 0) {
+                action.accept((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.smartevent.common;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns tags to dense int ids (0, 1, 2, ...) so they can index arrays and bitsets.
+ * Ids are never reused or reassigned. Tags are normalized (trimmed, lower-case) before lookup.
+ * Thread-safe; lookups are lock-free.
+ */
+public final class TagDictionary {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[16];
+    private volatile int size;
+
+    /** The id of {@code tag}, assigning the next free id if it is new; -1 for a blank tag. */
+    public int intern(String tag) {
+        String normalized = normalize(tag);
+        if (normalized == null) {
+            return -1;
+        }
+        Integer id = ids.get(normalized);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(normalized);
+            if (id != null) {
+                return id;
+            }
+            int next = size;
+            if (next == names.length) {
+                names = Arrays.copyOf(names, next * 2);
+            }
+            names[next] = normalized;
+            size = next + 1;
+            ids.put(normalized, next);
+            return next;
+        }
+    }
+
+    /** The id of {@code tag}, or -1 if it has never been interned. */
+    public int idOf(String tag) {
+        String normalized = normalize(tag);
+        if (normalized == null) {
+            return -1;
+        }
+        Integer id = ids.get(normalized);
+        return id == null ? -1 : id;
+    }
+
+    public String name(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Unknown tag id: " + id);
+        }
+        return names[id];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** The form tags are interned under (trimmed, lower-case), or {@code null} for a blank tag. */
+    public static String normalize(String tag) {
+        if (tag == null) {
+            return null;
+        }
+        String normalized = tag.trim().toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+}
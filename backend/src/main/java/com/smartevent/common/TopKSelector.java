@@ -0,0 +1,116 @@
+package com.smartevent.common;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Selects the {@code k} highest-scoring candidates from a stream of {@code (score, index)} pairs
+ * with a fixed-size binary min-heap over primitive arrays: O(n log k) time, no per-candidate
+ * allocation and no boxing.
+ *
+ * <p>Candidates with equal scores are ordered by {@code tieBreak}, which compares two candidate
+ * indexes and returns a negative value when the first should rank higher. Not thread-safe.</p>
+ */
+public final class TopKSelector {
+
+    private final int capacity;
+    private final IntBinaryOperator tieBreak;
+    private final double[] scores;
+    private final int[] indexes;
+    private int size;
+
+    public TopKSelector(int k, IntBinaryOperator tieBreak) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        this.capacity = k;
+        this.tieBreak = tieBreak;
+        this.scores = new double[k];
+        this.indexes = new int[k];
+    }
+
+    /** Offers a candidate; returns whether it is currently among the top {@code k}. */
+    public boolean offer(double score, int index) {
+        if (capacity == 0) {
+            return false;
+        }
+        if (size < capacity) {
+            scores[size] = score;
+            indexes[size] = index;
+            siftUp(size++);
+            return true;
+        }
+        // The root is the weakest of the current top k; the candidate must beat it to get in.
+        if (!ranksHigher(score, index, scores[0], indexes[0])) {
+            return false;
+        }
+        scores[0] = score;
+        indexes[0] = index;
+        siftDown(0);
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Removes all candidates and returns their indexes, best first. */
+    public int[] drainDescending() {
+        int[] ordered = new int[size];
+        for (int slot = ordered.length - 1; slot >= 0; slot--) {
+            ordered[slot] = indexes[0];
+            size--;
+            if (size > 0) {
+                scores[0] = scores[size];
+                indexes[0] = indexes[size];
+                siftDown(0);
+            }
+        }
+        return ordered;
+    }
+
+    private boolean ranksHigher(double score, int index, double otherScore, int otherIndex) {
+        int byScore = Double.compare(score, otherScore);
+        if (byScore != 0) {
+            return byScore > 0;
+        }
+        return tieBreak.applyAsInt(index, otherIndex) < 0;
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!ranksHigher(scores[parent], indexes[parent], scores[position], indexes[position])) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int left = 2 * position + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int weakest = right < size && ranksHigher(scores[left], indexes[left], scores[right], indexes[right])
+                    ? right
+                    : left;
+            if (!ranksHigher(scores[position], indexes[position], scores[weakest], indexes[weakest])) {
+                return;
+            }
+            swap(position, weakest);
+            position = weakest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        int index = indexes[a];
+        indexes[a] = indexes[b];
+        indexes[b] = index;
+    }
+}
@@ -0,0 +1,49 @@
+package com.smartevent.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.catalog")
+public class CatalogProperties {
+
+    private boolean ingestionEnabled = true;
+    private List<String> countryCodes = new ArrayList<>();
+    private boolean includeUserLocations = true;
+    private long tombstoneAfterMs = 3600000;
+
+    public boolean isIngestionEnabled() {
+        return ingestionEnabled;
+    }
+
+    public void setIngestionEnabled(boolean ingestionEnabled) {
+        this.ingestionEnabled = ingestionEnabled;
+    }
+
+    public List<String> getCountryCodes() {
+        return countryCodes;
+    }
+
+    public void setCountryCodes(List<String> countryCodes) {
+        this.countryCodes = countryCodes;
+    }
+
+    public boolean isIncludeUserLocations() {
+        return includeUserLocations;
+    }
+
+    public void setIncludeUserLocations(boolean includeUserLocations) {
+        this.includeUserLocations = includeUserLocations;
+    }
+
+    /** How long an event may go unreturned by every source before it is tombstoned. */
+    public long getTombstoneAfterMs() {
+        return tombstoneAfterMs;
+    }
+
+    public void setTombstoneAfterMs(long tombstoneAfterMs) {
+        this.tombstoneAfterMs = tombstoneAfterMs;
+    }
+}
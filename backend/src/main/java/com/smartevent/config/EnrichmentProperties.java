@@ -0,0 +1,116 @@
+package com.smartevent.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.enrichment")
+public class EnrichmentProperties {
+
+    private int version = 3;
+    private final Range popularity = new Range(50, 100);
+    private final Rule defaultRule = new Rule(null, new Range(60, 75), new Range(60, 75));
+    private List<Rule> rules = new ArrayList<>(List.of(
+            new Rule("hackathon*", new Range(90, 100), new Range(60, 75)),
+            new Rule("bootcamp*", new Range(80, 95), new Range(60, 75)),
+            new Rule("summit*", new Range(60, 75), new Range(80, 95)),
+            new Rule("workshop*", new Range(70, 85), new Range(70, 85))));
+
+    /** Bump to recompute the features of every stored event on the next ingestion run. */
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    public Range getPopularity() {
+        return popularity;
+    }
+
+    public Rule getDefaultRule() {
+        return defaultRule;
+    }
+
+    /** Evaluated in order; the first rule whose keyword appears in the title decides the impact scores. */
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    public static class Rule {
+
+        private String keyword;
+        private Range coding = new Range(60, 75);
+        private Range communication = new Range(60, 75);
+
+        public Rule() {
+        }
+
+        public Rule(String keyword, Range coding, Range communication) {
+            this.keyword = keyword;
+            this.coding = coding;
+            this.communication = communication;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        public void setKeyword(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public Range getCoding() {
+            return coding;
+        }
+
+        public void setCoding(Range coding) {
+            this.coding = coding;
+        }
+
+        public Range getCommunication() {
+            return communication;
+        }
+
+        public void setCommunication(Range communication) {
+            this.communication = communication;
+        }
+    }
+
+    public static class Range {
+
+        private int min;
+        private int max;
+
+        public Range() {
+        }
+
+        public Range(int min, int max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        public int getMin() {
+            return min;
+        }
+
+        public void setMin(int min) {
+            this.min = min;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        public void setMax(int max) {
+            this.max = max;
+        }
+    }
+}
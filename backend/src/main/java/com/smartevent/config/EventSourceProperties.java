@@ -0,0 +1,59 @@
+package com.smartevent.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.sources")
+public class EventSourceProperties {
+
+    private List<String> enabled = new ArrayList<>(List.of("ticketmaster", "catalog"));
+    private long deadlineMs = 2500;
+    private long ingestionDeadlineMs = 30000;
+    private final File file = new File();
+
+    /** Enabled source names, in priority order: earlier sources win when results overlap. */
+    public List<String> getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(List<String> enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getDeadlineMs() {
+        return deadlineMs;
+    }
+
+    public void setDeadlineMs(long deadlineMs) {
+        this.deadlineMs = deadlineMs;
+    }
+
+    public long getIngestionDeadlineMs() {
+        return ingestionDeadlineMs;
+    }
+
+    public void setIngestionDeadlineMs(long ingestionDeadlineMs) {
+        this.ingestionDeadlineMs = ingestionDeadlineMs;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public static class File {
+
+        private String path;
+
+        /** JSON array or newline-delimited JSON of events; re-read whenever the file changes. */
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+    }
+}
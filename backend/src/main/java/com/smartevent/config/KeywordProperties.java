@@ -0,0 +1,133 @@
+package com.smartevent.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keyword dictionaries for title classification. Matching is word-bounded and case-insensitive;
+ * a trailing {@code *} allows any word ending, e.g. {@code developer*} also matches "developers".
+ */
+@Component
+@ConfigurationProperties(prefix = "app.keywords")
+public class KeywordProperties {
+
+    private List<String> relevant = new ArrayList<>(List.of(
+            "developer*", "tech", "technology", "technical", "coding", "programming", "hackathon*",
+            "bootcamp*", "ai", "data", "cloud computing", "software engineering"));
+
+    private List<String> strictTech = new ArrayList<>(List.of(
+            "developer*", "programming", "coding", "hackathon*", "bootcamp*", "software", "ai", "data",
+            "engineering"));
+
+    private static final Map<String, List<String>> DEFAULT_CATEGORIES = defaultCategories();
+
+    /** Bound from configuration; starts empty so configured categories replace the defaults instead of merging. */
+    private Map<String, List<String>> categories = new LinkedHashMap<>();
+
+    private List<Explanation> explanations = new ArrayList<>(List.of(
+            new Explanation("HANDS_ON_LEARNING", "Competitive hands-on learning", List.of("hackathon*")),
+            new Explanation("SKILL_PROGRAM", "Structured skill-building program", List.of("bootcamp*"))));
+
+    private static Map<String, List<String>> defaultCategories() {
+        Map<String, List<String>> categories = new LinkedHashMap<>();
+        categories.put("TECHNOLOGY", List.of("tech", "technology", "developer*", "coding", "hackathon*",
+                "programming", "ai", "data", "cloud", "backend", "frontend", "software"));
+        categories.put("BUSINESS", List.of("business", "startup*", "entrepreneur*", "leadership", "management",
+                "finance"));
+        categories.put("MARKETING", List.of("marketing", "branding", "sales", "growth", "digital marketing"));
+        categories.put("EDUCATION", List.of("bootcamp*", "workshop*", "training", "course*", "learning",
+                "research"));
+        categories.put("DESIGN", List.of("design", "ux", "ui", "creative"));
+        return Collections.unmodifiableMap(categories);
+    }
+
+    /** Titles that make a Ticketmaster "Miscellaneous" event relevant. */
+    public List<String> getRelevant() {
+        return relevant;
+    }
+
+    public void setRelevant(List<String> relevant) {
+        this.relevant = relevant;
+    }
+
+    /** Titles that qualify a catalog event for live recommendations. */
+    public List<String> getStrictTech() {
+        return strictTech;
+    }
+
+    public void setStrictTech(List<String> strictTech) {
+        this.strictTech = strictTech;
+    }
+
+    /** Configured category name to keywords; empty unless set. See {@link #categoriesOrDefaults()}. */
+    public Map<String, List<String>> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(Map<String, List<String>> categories) {
+        this.categories = categories;
+    }
+
+    /**
+     * Category name to keywords, in priority order: the first category with a hit wins. Configured
+     * categories replace the built-in ones as a whole; without any, the built-in ones apply.
+     */
+    public Map<String, List<String>> categoriesOrDefaults() {
+        return categories == null || categories.isEmpty() ? DEFAULT_CATEGORIES : categories;
+    }
+
+    /** Reasons added to a recommendation's explanation when the title matches. */
+    public List<Explanation> getExplanations() {
+        return explanations;
+    }
+
+    public void setExplanations(List<Explanation> explanations) {
+        this.explanations = explanations;
+    }
+
+    public static class Explanation {
+
+        /** Stable reason code for clients that render explanations themselves. */
+        private String code;
+        private String reason;
+        private List<String> keywords = new ArrayList<>();
+
+        public Explanation() {
+        }
+
+        public Explanation(String code, String reason, List<String> keywords) {
+            this.code = code;
+            this.reason = reason;
+            this.keywords = keywords;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        public void setReason(String reason) {
+            this.reason = reason;
+        }
+
+        public List<String> getKeywords() {
+            return keywords;
+        }
+
+        public void setKeywords(List<String> keywords) {
+            this.keywords = keywords;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.smartevent.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.security.password-hashing")
+public class PasswordHashingProperties {
+
+    private int threads = 0;
+    private int queueCapacity = 32;
+    private int strength = 0;
+    private long targetHashMs = 250;
+    private int minStrength = 10;
+    private int maxStrength = 14;
+
+    /** Threads that run BCrypt; 0 uses half the available processors (at least one). */
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /** Hashing requests that may wait for a thread; beyond that logins are rejected with 429. */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /** Fixed BCrypt cost factor; 0 calibrates it at startup against {@code target-hash-ms}. */
+    public int getStrength() {
+        return strength;
+    }
+
+    public void setStrength(int strength) {
+        this.strength = strength;
+    }
+
+    /** Calibration picks the highest cost whose measured hash time stays within this budget. */
+    public long getTargetHashMs() {
+        return targetHashMs;
+    }
+
+    public void setTargetHashMs(long targetHashMs) {
+        this.targetHashMs = targetHashMs;
+    }
+
+    /** Lowest cost calibration may choose, whatever the hardware. */
+    public int getMinStrength() {
+        return minStrength;
+    }
+
+    public void setMinStrength(int minStrength) {
+        this.minStrength = minStrength;
+    }
+
+    public int getMaxStrength() {
+        return maxStrength;
+    }
+
+    public void setMaxStrength(int maxStrength) {
+        this.maxStrength = maxStrength;
+    }
+}
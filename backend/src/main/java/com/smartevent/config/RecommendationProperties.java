@@ -0,0 +1,106 @@
+package com.smartevent.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.recommendations")
+public class RecommendationProperties {
+
+    private int materializedSize = 100;
+    private int refreshParallelism = 2;
+    private long activeWindowMs = 604800000;
+    private boolean candidateIndexEnabled = true;
+    private int popularityBackfill = 200;
+    private boolean vectorScoringEnabled = true;
+    private boolean parallelScoringEnabled = true;
+    private int parallelScoringThreshold = 50000;
+    private int scoringParallelism = 0;
+
+    /** How many ranked events are kept per user; pages beyond them are scored on demand. */
+    public int getMaterializedSize() {
+        return materializedSize;
+    }
+
+    public void setMaterializedSize(int materializedSize) {
+        this.materializedSize = materializedSize;
+    }
+
+    /** Maximum number of lists recomputed concurrently in the background. */
+    public int getRefreshParallelism() {
+        return refreshParallelism;
+    }
+
+    public void setRefreshParallelism(int refreshParallelism) {
+        this.refreshParallelism = refreshParallelism;
+    }
+
+    /** Users who have not requested recommendations for this long are no longer kept up to date. */
+    public long getActiveWindowMs() {
+        return activeWindowMs;
+    }
+
+    public void setActiveWindowMs(long activeWindowMs) {
+        this.activeWindowMs = activeWindowMs;
+    }
+
+    /** Whether candidates come from the in-memory tag index instead of a scan of the catalog. */
+    public boolean isCandidateIndexEnabled() {
+        return candidateIndexEnabled;
+    }
+
+    public void setCandidateIndexEnabled(boolean candidateIndexEnabled) {
+        this.candidateIndexEnabled = candidateIndexEnabled;
+    }
+
+    /** Most popular events added to the interest matches, so strong events without a matching tag can still rank. */
+    public int getPopularityBackfill() {
+        return popularityBackfill;
+    }
+
+    public void setPopularityBackfill(int popularityBackfill) {
+        this.popularityBackfill = popularityBackfill;
+    }
+
+    /**
+     * Whether scoring may use the SIMD kernel. It also needs the JVM flag
+     * {@code --add-modules jdk.incubator.vector}; without it the scalar kernel is used.
+     */
+    public boolean isVectorScoringEnabled() {
+        return vectorScoringEnabled;
+    }
+
+    public void setVectorScoringEnabled(boolean vectorScoringEnabled) {
+        this.vectorScoringEnabled = vectorScoringEnabled;
+    }
+
+    /** Whether large candidate sets are scored on the fork/join scoring pool. */
+    public boolean isParallelScoringEnabled() {
+        return parallelScoringEnabled;
+    }
+
+    public void setParallelScoringEnabled(boolean parallelScoringEnabled) {
+        this.parallelScoringEnabled = parallelScoringEnabled;
+    }
+
+    /**
+     * Candidate count from which scoring is split across the pool. Below it, fork/join overhead
+     * outweighs the gain and a single thread ranks the candidates.
+     */
+    public int getParallelScoringThreshold() {
+        return parallelScoringThreshold;
+    }
+
+    public void setParallelScoringThreshold(int parallelScoringThreshold) {
+        this.parallelScoringThreshold = parallelScoringThreshold;
+    }
+
+    /** Threads in the scoring pool; 0 uses one per available processor. */
+    public int getScoringParallelism() {
+        return scoringParallelism;
+    }
+
+    public void setScoringParallelism(int scoringParallelism) {
+        this.scoringParallelism = scoringParallelism;
+    }
+}
@@ -0,0 +1,53 @@
+package com.smartevent.config;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class SchedulerConfig {
+
+    /**
+     * Scheduler for blocking JPA work inside reactive pipelines. Capped at the Hikari pool size:
+     * more threads would only queue on connection checkout, so excess work waits in the
+     * scheduler queue instead of occupying threads.
+     */
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Scheduler jdbcScheduler(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        return Schedulers.newBoundedElastic(poolSize, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "jdbc");
+    }
+
+    /**
+     * With {@code spring.threads.virtual.enabled} every blocking JPA call gets its own virtual
+     * thread; waiting for a Hikari connection parks the virtual thread instead of a carrier.
+     */
+    @Bean(name = "jdbcScheduler", destroyMethod = "dispose")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Scheduler virtualJdbcScheduler() {
+        return Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "jdbc");
+    }
+
+    /**
+     * Fork/join pool for CPU-bound recommendation scoring. Kept apart from the common pool so
+     * scoring neither competes with parallel streams nor gets starved by them.
+     */
+    @Bean(name = "scoringPool", destroyMethod = "shutdown")
+    public ForkJoinPool scoringPool(RecommendationProperties properties) {
+        int parallelism = properties.getScoringParallelism() > 0
+                ? properties.getScoringParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("scoring-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+}
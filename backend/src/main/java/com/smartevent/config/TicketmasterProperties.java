@@ -9,6 +9,11 @@ public class TicketmasterProperties {
 
     private String apiKey;
     private String baseUrl;
+    private final Cache cache = new Cache();
+    private final Fetch fetch = new Fetch();
+    private final Client client = new Client();
+    private final Resilience resilience = new Resilience();
+    private final Stub stub = new Stub();
 
     public String getApiKey() {
         return apiKey;
@@ -25,4 +30,383 @@ public class TicketmasterProperties {
     public void setBaseUrl(String baseUrl) {
         this.baseUrl = baseUrl;
     }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Fetch getFetch() {
+        return fetch;
+    }
+
+    public Client getClient() {
+        return client;
+    }
+
+    public Resilience getResilience() {
+        return resilience;
+    }
+
+    public Stub getStub() {
+        return stub;
+    }
+
+    public static class Cache {
+
+        private long ttlMs = 300000;
+        private long failureBackoffMs = 30000;
+        private int maxEntries = 256;
+
+        public long getTtlMs() {
+            return ttlMs;
+        }
+
+        public void setTtlMs(long ttlMs) {
+            this.ttlMs = ttlMs;
+        }
+
+        public long getFailureBackoffMs() {
+            return failureBackoffMs;
+        }
+
+        public void setFailureBackoffMs(long failureBackoffMs) {
+            this.failureBackoffMs = failureBackoffMs;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+
+    public static class Fetch {
+
+        private int pageSize = 50;
+        private int maxPages = 5;
+        private int concurrency = 3;
+        private int targetEvents = 200;
+        private long timeBudgetMs = 3000;
+        private int maxResponseBytes = 2 * 1024 * 1024;
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public int getMaxPages() {
+            return maxPages;
+        }
+
+        public void setMaxPages(int maxPages) {
+            this.maxPages = maxPages;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        public int getTargetEvents() {
+            return targetEvents;
+        }
+
+        public void setTargetEvents(int targetEvents) {
+            this.targetEvents = targetEvents;
+        }
+
+        public long getTimeBudgetMs() {
+            return timeBudgetMs;
+        }
+
+        public void setTimeBudgetMs(long timeBudgetMs) {
+            this.timeBudgetMs = timeBudgetMs;
+        }
+
+        /** Largest page body buffered for parsing; a bigger one fails the call instead. */
+        public int getMaxResponseBytes() {
+            return maxResponseBytes;
+        }
+
+        public void setMaxResponseBytes(int maxResponseBytes) {
+            this.maxResponseBytes = maxResponseBytes;
+        }
+    }
+
+    public static class Client {
+
+        private int connectTimeoutMs = 2000;
+        private long responseTimeoutMs = 5000;
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 200;
+        private long pendingAcquireTimeoutMs = 1000;
+
+        public int getConnectTimeoutMs() {
+            return connectTimeoutMs;
+        }
+
+        public void setConnectTimeoutMs(int connectTimeoutMs) {
+            this.connectTimeoutMs = connectTimeoutMs;
+        }
+
+        public long getResponseTimeoutMs() {
+            return responseTimeoutMs;
+        }
+
+        public void setResponseTimeoutMs(long responseTimeoutMs) {
+            this.responseTimeoutMs = responseTimeoutMs;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        public long getPendingAcquireTimeoutMs() {
+            return pendingAcquireTimeoutMs;
+        }
+
+        public void setPendingAcquireTimeoutMs(long pendingAcquireTimeoutMs) {
+            this.pendingAcquireTimeoutMs = pendingAcquireTimeoutMs;
+        }
+    }
+
+    public static class Resilience {
+
+        private long callTimeoutMs = 2500;
+        private int maxConcurrentCalls = 10;
+        private int slidingWindowSize = 20;
+        private int minimumCalls = 10;
+        private int failureRateThreshold = 50;
+        private int slowCallRateThreshold = 80;
+        private long slowCallDurationMs = 2000;
+        private long openDurationMs = 30000;
+        private int halfOpenCalls = 3;
+        private boolean hedgeEnabled = false;
+        private long hedgeMinDelayMs = 200;
+
+        public long getCallTimeoutMs() {
+            return callTimeoutMs;
+        }
+
+        public void setCallTimeoutMs(long callTimeoutMs) {
+            this.callTimeoutMs = callTimeoutMs;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public int getSlidingWindowSize() {
+            return slidingWindowSize;
+        }
+
+        public void setSlidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public int getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(int failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public int getSlowCallRateThreshold() {
+            return slowCallRateThreshold;
+        }
+
+        public void setSlowCallRateThreshold(int slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+        }
+
+        public long getSlowCallDurationMs() {
+            return slowCallDurationMs;
+        }
+
+        public void setSlowCallDurationMs(long slowCallDurationMs) {
+            this.slowCallDurationMs = slowCallDurationMs;
+        }
+
+        public long getOpenDurationMs() {
+            return openDurationMs;
+        }
+
+        public void setOpenDurationMs(long openDurationMs) {
+            this.openDurationMs = openDurationMs;
+        }
+
+        public int getHalfOpenCalls() {
+            return halfOpenCalls;
+        }
+
+        public void setHalfOpenCalls(int halfOpenCalls) {
+            this.halfOpenCalls = halfOpenCalls;
+        }
+
+        public boolean isHedgeEnabled() {
+            return hedgeEnabled;
+        }
+
+        public void setHedgeEnabled(boolean hedgeEnabled) {
+            this.hedgeEnabled = hedgeEnabled;
+        }
+
+        public long getHedgeMinDelayMs() {
+            return hedgeMinDelayMs;
+        }
+
+        public void setHedgeMinDelayMs(long hedgeMinDelayMs) {
+            this.hedgeMinDelayMs = hedgeMinDelayMs;
+        }
+    }
+
+    public static class Stub {
+
+        private boolean enabled = false;
+        private int port = 0;
+        private String recordings = "classpath*:ticketmaster-stub/*.json";
+        private String recordDir;
+        private int syntheticEvents = 0;
+        private int totalPages = 5;
+        private double errorRate = 0.0;
+        private int errorStatus = 503;
+        private final Latency latency = new Latency();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        public void setPort(int port) {
+            this.port = port;
+        }
+
+        public String getRecordings() {
+            return recordings;
+        }
+
+        public void setRecordings(String recordings) {
+            this.recordings = recordings;
+        }
+
+        public String getRecordDir() {
+            return recordDir;
+        }
+
+        public void setRecordDir(String recordDir) {
+            this.recordDir = recordDir;
+        }
+
+        public int getSyntheticEvents() {
+            return syntheticEvents;
+        }
+
+        public void setSyntheticEvents(int syntheticEvents) {
+            this.syntheticEvents = syntheticEvents;
+        }
+
+        public int getTotalPages() {
+            return totalPages;
+        }
+
+        public void setTotalPages(int totalPages) {
+            this.totalPages = totalPages;
+        }
+
+        public double getErrorRate() {
+            return errorRate;
+        }
+
+        public void setErrorRate(double errorRate) {
+            this.errorRate = errorRate;
+        }
+
+        public int getErrorStatus() {
+            return errorStatus;
+        }
+
+        public void setErrorStatus(int errorStatus) {
+            this.errorStatus = errorStatus;
+        }
+
+        public Latency getLatency() {
+            return latency;
+        }
+    }
+
+    public static class Latency {
+
+        public enum Distribution {
+            FIXED,
+            LOG_NORMAL
+        }
+
+        private Distribution distribution = Distribution.FIXED;
+        private long medianMs = 50;
+        private long p99Ms = 500;
+
+        public Distribution getDistribution() {
+            return distribution;
+        }
+
+        public void setDistribution(Distribution distribution) {
+            this.distribution = distribution;
+        }
+
+        public long getMedianMs() {
+            return medianMs;
+        }
+
+        public void setMedianMs(long medianMs) {
+            this.medianMs = medianMs;
+        }
+
+        public long getP99Ms() {
+            return p99Ms;
+        }
+
+        public void setP99Ms(long p99Ms) {
+            this.p99Ms = p99Ms;
+        }
+    }
 }
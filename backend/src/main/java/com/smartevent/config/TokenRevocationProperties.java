@@ -0,0 +1,43 @@
+package com.smartevent.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.security.revocation")
+public class TokenRevocationProperties {
+
+    private int expectedRevocations = 10000;
+    private double falsePositiveRate = 0.01;
+    private long syncIntervalMs = 30000;
+
+    /** Unexpired revoked tokens the Bloom filter is sized for; it is rebuilt larger when exceeded. */
+    public int getExpectedRevocations() {
+        return expectedRevocations;
+    }
+
+    public void setExpectedRevocations(int expectedRevocations) {
+        this.expectedRevocations = expectedRevocations;
+    }
+
+    /** Share of unrevoked tokens the Bloom filter lets through to the exact set. */
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Delay between reads of revocations made by other instances; it bounds how long a token
+     * revoked elsewhere is still accepted here.
+     */
+    public long getSyncIntervalMs() {
+        return syncIntervalMs;
+    }
+
+    public void setSyncIntervalMs(long syncIntervalMs) {
+        this.syncIntervalMs = syncIntervalMs;
+    }
+}
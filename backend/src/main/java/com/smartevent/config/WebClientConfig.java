@@ -1,19 +1,59 @@
 package com.smartevent.config;
 
+import com.smartevent.service.TicketmasterRecordingFilter;
+import com.smartevent.service.TicketmasterStubServer;
+import io.netty.channel.ChannelOption;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
 
-    @Bean
-    public WebClient ticketmasterWebClient() {
-        return WebClient.builder()
-                .baseUrl("https://app.ticketmaster.com/discovery/v2")
-                .defaultHeader("Accept", MediaType.APPLICATION_JSON_VALUE)
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider ticketmasterConnectionProvider(TicketmasterProperties ticketmasterProperties) {
+        TicketmasterProperties.Client client = ticketmasterProperties.getClient();
+        return ConnectionProvider.builder("ticketmaster")
+                .maxConnections(client.getMaxConnections())
+                .pendingAcquireMaxCount(client.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(client.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofSeconds(30))
                 .build();
     }
-}
 
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(prefix = "ticketmaster.stub", name = "enabled", havingValue = "true")
+    public TicketmasterStubServer ticketmasterStubServer(TicketmasterProperties ticketmasterProperties) {
+        return new TicketmasterStubServer(ticketmasterProperties.getStub());
+    }
+
+    @Bean
+    public WebClient ticketmasterWebClient(TicketmasterProperties ticketmasterProperties,
+                                           ConnectionProvider ticketmasterConnectionProvider,
+                                           ObjectProvider<TicketmasterStubServer> ticketmasterStubServer) {
+        TicketmasterProperties.Client client = ticketmasterProperties.getClient();
+        HttpClient httpClient = HttpClient.create(ticketmasterConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, client.getConnectTimeoutMs())
+                .responseTimeout(Duration.ofMillis(client.getResponseTimeoutMs()));
+
+        TicketmasterStubServer stub = ticketmasterStubServer.getIfAvailable();
+        WebClient.Builder builder = WebClient.builder()
+                .baseUrl(stub != null ? stub.getBaseUrl() : ticketmasterProperties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader("Accept", MediaType.APPLICATION_JSON_VALUE);
+
+        String recordDir = ticketmasterProperties.getStub().getRecordDir();
+        if (stub == null && recordDir != null && !recordDir.isBlank()) {
+            builder.filter(new TicketmasterRecordingFilter(Path.of(recordDir)));
+        }
+        return builder.build();
+    }
+}
@@ -5,10 +5,12 @@ import com.smartevent.dto.AuthResponse;
 import com.smartevent.dto.RefreshTokenRequest;
 import com.smartevent.service.AuthService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -42,4 +44,23 @@ public class AuthController {
         String token = authService.refreshAccessToken(request.getRefreshToken());
         return ResponseEntity.ok(Map.of("token", token));
     }
+
+    /** Revokes the given refresh token, and the bearer access token if one is sent. */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request,
+                                       @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false)
+                                       String authorization) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        authService.logout(request.getRefreshToken(), accessToken);
+        return ResponseEntity.noContent().build();
+    }
+
+    /** Revokes all tokens of the authenticated user. */
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutEverywhere() {
+        authService.logoutEverywhere();
+        return ResponseEntity.noContent().build();
+    }
 }
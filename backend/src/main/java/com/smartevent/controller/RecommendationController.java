@@ -4,14 +4,23 @@ import com.smartevent.dto.ExternalEventDto;
 import com.smartevent.dto.RecommendationResponse;
 import com.smartevent.service.RecommendationService;
 import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/recommendations")
 public class RecommendationController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String CATALOG_VERSION_HEADER = "X-Catalog-Version";
+
     private final RecommendationService recommendationService;
 
     public RecommendationController(RecommendationService recommendationService) {
@@ -19,12 +28,39 @@ public class RecommendationController {
     }
 
     @GetMapping("/trending")
-    public List<ExternalEventDto> getLiveTrendingEvents() {
-        return recommendationService.getLiveTrendingEvents();
+    public Mono<List<ExternalEventDto>> getLiveTrendingEvents() {
+        return withRequestSecurityContext(recommendationService.getLiveTrendingEvents());
     }
 
+    /**
+     * Returns one page of recommendations; when more follow, the {@code X-Next-Cursor} response
+     * header carries the cursor to pass back for the next page. With {@code explain=codes} each
+     * item carries reason codes instead of a rendered explanation. {@code X-Catalog-Version} and
+     * {@code Last-Modified} tell how fresh the precomputed ranking is.
+     */
     @GetMapping("/live")
-    public List<RecommendationResponse> getLiveRecommendations() {
-        return recommendationService.getLiveRecommendations();
+    public Mono<ResponseEntity<List<RecommendationResponse>>> getLiveRecommendations(
+            @RequestParam(defaultValue = "5") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "text") String explain) {
+        return withRequestSecurityContext(recommendationService.getLiveRecommendations(limit, cursor, explain))
+                .map(page -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                            .header(CATALOG_VERSION_HEADER, Long.toString(page.getCatalogVersion()))
+                            .lastModified(page.getComputedAt());
+                    if (page.getNextCursor() != null) {
+                        response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+                    }
+                    return response.body(page.getItems());
+                });
+    }
+
+    /**
+     * The servlet filter chain authenticates into a thread-local context; the reactive
+     * pipeline runs on other threads, so hand the context over through the Reactor context.
+     */
+    private <T> Mono<T> withRequestSecurityContext(Mono<T> publisher) {
+        SecurityContext context = SecurityContextHolder.getContext();
+        return publisher.contextWrite(ReactiveSecurityContextHolder.withSecurityContext(Mono.just(context)));
     }
-}
\ No newline at end of file
+}
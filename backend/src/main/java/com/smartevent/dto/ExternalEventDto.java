@@ -8,6 +8,7 @@ public class ExternalEventDto {
     private String id;
     private String title;
     private String location;
+    private String countryCode;
     private LocalDate eventDate;
 
     private String category;
@@ -29,6 +30,7 @@ public class ExternalEventDto {
     public String getId() { return id; }
     public String getTitle() { return title; }
     public String getLocation() { return location; }
+    public String getCountryCode() { return countryCode; }
     public LocalDate getEventDate() { return eventDate; }
     public String getCategory() { return category; }
     public Integer getPopularityScore() { return popularityScore; }
@@ -39,6 +41,7 @@ public class ExternalEventDto {
     public void setId(String id) { this.id = id; }
     public void setTitle(String title) { this.title = title; }
     public void setLocation(String location) { this.location = location; }
+    public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
     public void setEventDate(LocalDate eventDate) { this.eventDate = eventDate; }
     public void setCategory(String category) { this.category = category; }
     public void setPopularityScore(Integer popularityScore) { this.popularityScore = popularityScore; }
@@ -0,0 +1,21 @@
+package com.smartevent.dto;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RecommendationPage {
+
+    private final List<RecommendationResponse> items;
+
+    /** Opaque cursor for the next page, or {@code null} on the last page. */
+    private final String nextCursor;
+
+    /** Catalog version the ranking was computed against. */
+    private final long catalogVersion;
+
+    private final Instant computedAt;
+}
@@ -1,8 +1,10 @@
 package com.smartevent.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.smartevent.entity.EventCategory;
 import com.smartevent.entity.EventMode;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,4 +21,12 @@ public class RecommendationResponse {
     private final LocalDate eventDate;
     private final Double finalScore;
     private final String explanation;
+
+    /** Reason codes instead of {@code explanation}, when requested with {@code explain=codes}. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<String> reasonCodes;
+
+    /** Interest tag behind an {@code INTEREST_MATCH} reason code. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String matchedInterest;
 }
@@ -10,6 +10,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
@@ -24,6 +25,9 @@ import lombok.Setter;
 @NoArgsConstructor
 public class Event extends BaseEntity {
 
+    @Column(unique = true)
+    private String externalId;
+
     @Column(nullable = false)
     private String title;
 
@@ -39,9 +43,16 @@ public class Event extends BaseEntity {
     @Column(name = "tag", nullable = false)
     private Set<String> tags = new HashSet<>();
 
+    /** {@link #tags} as a bitset over the global tag dictionary; {@code null} until encoded. */
+    @Column
+    private long[] tagBits;
+
     @Column
     private String location;
 
+    @Column(length = 2)
+    private String countryCode;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private EventMode mode;
@@ -57,5 +68,24 @@ public class Event extends BaseEntity {
 
     @Column
     private Integer popularityScore;
+
+    /** {@code app.enrichment.version} the derived category, tags and scores were computed with. */
+    @Column
+    private Integer enrichmentVersion;
+
+    /** Hash of the ingested fields; ingestion skips events whose fingerprint is unchanged. */
+    @Column(length = 16)
+    private String contentFingerprint;
+
+    @Column
+    private Instant lastSeenAt;
+
+    /** Set once the event is in the past or no source has returned it for a while. */
+    @Column(columnDefinition = "boolean not null default false")
+    private boolean tombstoned;
+
+    /** Catalog version in which this row last changed. */
+    @Column
+    private Long catalogVersion;
 }
 
@@ -0,0 +1,52 @@
+package com.smartevent.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * A token revoked before its expiry, keyed by its {@code jti} claim. Rows are deleted once the
+ * token would have expired anyway.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revokedAt"),
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expiresAt")
+})
+@Getter
+@NoArgsConstructor
+public class RevokedToken implements Persistable<UUID> {
+
+    @Id
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(nullable = false, updatable = false)
+    private Instant expiresAt;
+
+    @Column(nullable = false, updatable = false)
+    private Instant revokedAt;
+
+    public RevokedToken(UUID id, UUID userId, Instant expiresAt, Instant revokedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+
+    /** The id is the token's, so a save must insert and fail if it was already revoked. */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package com.smartevent.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * One entry of the global tag dictionary: a normalized tag and its dense id, the bit position in
+ * {@link Event#getTagBits()} and {@link User#getInterestBits()}. Rows are only ever inserted.
+ */
+@Entity
+@Table(name = "tags")
+@Getter
+@NoArgsConstructor
+public class Tag implements Persistable<Integer> {
+
+    @Id
+    @Column(nullable = false, updatable = false)
+    private Integer id;
+
+    @Column(nullable = false, unique = true, updatable = false)
+    private String name;
+
+    public Tag(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    /** Ids are assigned by the application, so a save must insert and fail on a taken id or name. */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 import lombok.Getter;
@@ -29,6 +30,14 @@ public class User extends BaseEntity {
     @Column(nullable = false)
     private String password;
 
+    /** Bumped on every password change. */
+    @Column(columnDefinition = "integer not null default 0")
+    private int passwordVersion;
+
+    /** Tokens issued before this instant are revoked; {@code null} if none have been. */
+    @Column
+    private Instant tokensValidAfter;
+
     @Column
     private String location;
 
@@ -42,6 +51,14 @@ public class User extends BaseEntity {
     @Column(name = "skill", nullable = false)
     private Set<String> skills = new HashSet<>();
 
+    /** {@link #interests} as a bitset over the global tag dictionary; {@code null} until encoded. */
+    @Column
+    private long[] interestBits;
+
+    /** {@link #skills} as a bitset over the global tag dictionary; {@code null} until encoded. */
+    @Column
+    private long[] skillBits;
+
     @Column(nullable = false)
     private Double codingPreferenceWeight = 0.5;
 
@@ -0,0 +1,47 @@
+package com.smartevent.repository;
+
+import com.smartevent.entity.Event;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface EventRepository extends JpaRepository<Event, UUID> {
+
+    List<Event> findAllByExternalIdIn(Collection<String> externalIds);
+
+    List<Event> findTop500ByTagBitsIsNull();
+
+    @Query("select e from Event e where e.enrichmentVersion is null or e.enrichmentVersion <> :version")
+    List<Event> findByStaleEnrichment(@Param("version") int version);
+
+    @Query("select distinct e from Event e left join fetch e.tags "
+            + "where e.tombstoned = false and (e.eventDate is null or e.eventDate >= :from)")
+    List<Event> findUpcoming(@Param("from") LocalDate from);
+
+    @Query("select distinct e from Event e left join fetch e.tags "
+            + "where e.tombstoned = false and (e.eventDate is null or e.eventDate >= :from) "
+            + "and e.countryCode = :countryCode")
+    List<Event> findUpcomingByCountryCode(@Param("from") LocalDate from,
+                                          @Param("countryCode") String countryCode);
+
+    @Query("select coalesce(max(e.catalogVersion), 0) from Event e")
+    long findMaxCatalogVersion();
+
+    @Modifying
+    @Query("update Event e set e.lastSeenAt = :seenAt where e.externalId in :externalIds")
+    int markSeen(@Param("externalIds") Collection<String> externalIds, @Param("seenAt") Instant seenAt);
+
+    @Modifying
+    @Query("update Event e set e.tombstoned = true, e.catalogVersion = :version "
+            + "where e.tombstoned = false "
+            + "and (e.eventDate < :today or coalesce(e.lastSeenAt, e.updatedAt) < :seenBefore)")
+    int tombstoneExpired(@Param("today") LocalDate today,
+                         @Param("seenBefore") Instant seenBefore,
+                         @Param("version") long version);
+}
@@ -0,0 +1,7 @@
+package com.smartevent.repository;
+
+import com.smartevent.entity.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TagRepository extends JpaRepository<Tag, Integer> {
+}
@@ -1,12 +1,37 @@
 package com.smartevent.repository;
 
 import com.smartevent.entity.User;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
 
     Optional<User> findByEmail(String email);
-}
 
+    boolean existsByEmail(String email);
+
+    List<User> findTop500ByInterestBitsIsNull();
+
+    /** Users whose tokens issued before {@code tokensValidAfter} are revoked, if that is after {@code since}. */
+    List<TokenCutoff> findByTokensValidAfterAfter(Instant since);
+
+    @Modifying
+    @Query("update User u set u.tokensValidAfter = :validAfter where u.id = :id")
+    int updateTokensValidAfter(@Param("id") UUID id, @Param("validAfter") Instant validAfter);
+
+    @Query("select distinct upper(trim(u.location)) from User u where u.location is not null and trim(u.location) <> ''")
+    List<String> findDistinctLocations();
+
+    interface TokenCutoff {
+
+        UUID getId();
+
+        Instant getTokensValidAfter();
+    }
+}
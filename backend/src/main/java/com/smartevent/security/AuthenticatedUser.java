@@ -0,0 +1,51 @@
+package com.smartevent.security;
+
+import com.smartevent.entity.Role;
+import java.security.Principal;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+/**
+ * The principal {@link JwtAuthenticationFilter} sets for a request: who the caller is, resolved
+ * once from the token. Services read it instead of looking the user up by email.
+ */
+public record AuthenticatedUser(UUID id, String email, Role role) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /** The caller of the current request. */
+    public static AuthenticatedUser current() {
+        AuthenticatedUser user = from(SecurityContextHolder.getContext().getAuthentication());
+        if (user == null) {
+            throw unauthenticated();
+        }
+        return user;
+    }
+
+    /** The caller of the current request, for reactive pipelines. */
+    public static Mono<AuthenticatedUser> currentReactive() {
+        return ReactiveSecurityContextHolder.getContext()
+                .flatMap(context -> Mono.justOrEmpty(from(context.getAuthentication())))
+                .switchIfEmpty(Mono.error(AuthenticatedUser::unauthenticated));
+    }
+
+    private static AuthenticatedUser from(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            return null;
+        }
+        return user;
+    }
+
+    private static ResponseStatusException unauthenticated() {
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated");
+    }
+}
@@ -29,4 +29,11 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .authorities(Collections.singleton(new SimpleGrantedAuthority(user.getRole().name())))
                 .build();
     }
+
+    /** The principal for a token that does not carry the user id and role itself. */
+    public AuthenticatedUser loadAuthenticatedUser(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole());
+    }
 }
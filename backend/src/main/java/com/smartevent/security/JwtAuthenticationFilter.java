@@ -1,28 +1,40 @@
 package com.smartevent.security;
 
+import com.smartevent.entity.Role;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+/**
+ * Authenticates bearer access tokens with an {@link AuthenticatedUser} principal. The token is
+ * verified once, the principal is built from its claims, and the token is then checked against the
+ * in-memory {@link TokenRevocationList}; the user is only looked up for tokens that lack claims.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationList revocationList;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil,
+                                   CustomUserDetailsService userDetailsService,
+                                   TokenRevocationList revocationList) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.revocationList = revocationList;
     }
 
     @Override
@@ -39,21 +51,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7);
 
         try {
-            String username = jwtUtil.extractUsername(token);
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                if (jwtUtil.isTokenValid(token, userDetails)) {
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            VerifiedToken verified = jwtUtil.verify(token);
+            // Refresh tokens are only accepted by /api/auth/refresh.
+            if (!verified.refresh() && SecurityContextHolder.getContext().getAuthentication() == null) {
+                UsernamePasswordAuthenticationToken authentication = authenticate(verified);
+                // Checked against the resolved user, so tokens without a user id claim still meet
+                // its cutoff; revoked tokens stay unauthenticated.
+                AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
+                if (!revocationList.isRevoked(verified, user.id())) {
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
             }
-        } catch (JwtException | IllegalArgumentException ex) {
-            // Invalid or expired JWT; request continues unauthenticated.
+        } catch (JwtException | IllegalArgumentException | UsernameNotFoundException ex) {
+            // Invalid or expired JWT, or its user is gone; request continues unauthenticated.
         }
 
         filterChain.doFilter(request, response);
     }
-}
 
+    private UsernamePasswordAuthenticationToken authenticate(VerifiedToken verified) {
+        AuthenticatedUser user = verified.hasIdentityClaims()
+                ? new AuthenticatedUser(verified.userId(), verified.subject(), Role.valueOf(verified.role()))
+                // Issued before tokens carried the id and role: take them from the user row.
+                : userDetailsService.loadAuthenticatedUser(verified.subject());
+        return new UsernamePasswordAuthenticationToken(user, null,
+                List.of(new SimpleGrantedAuthority(user.role().name())));
+    }
+}
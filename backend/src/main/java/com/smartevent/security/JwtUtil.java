@@ -1,20 +1,30 @@
 package com.smartevent.security;
 
+import com.smartevent.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtUtil {
 
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_TYPE = "typ";
+    static final String REFRESH_TYPE = "refresh";
+
     private final Key key;
+    /** Immutable and thread-safe, so every request shares it. */
+    private final JwtParser parser;
     private final long expirationMs;
     private final long refreshExpirationMs;
 
@@ -25,67 +35,63 @@ public class JwtUtil {
             throw new IllegalStateException("JWT secret is required");
         }
         this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.expirationMs = expirationMs;
         this.refreshExpirationMs = refreshExpirationMs;
     }
 
-    public String generateToken(UserDetails userDetails) {
+    /**
+     * An access token carrying the user's id and role, so requests authenticate without a lookup.
+     * Every token gets a random {@code jti}, by which {@link TokenRevocationList} can revoke it.
+     */
+    public String generateToken(User user) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + expirationMs);
 
         return Jwts.builder()
-                .setSubject(userDetails.getUsername())
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getEmail())
+                .claim(CLAIM_USER_ID, user.getId().toString())
+                .claim(CLAIM_ROLE, user.getRole().name())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String generateRefreshToken(UserDetails userDetails) {
+    public String generateRefreshToken(User user) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + refreshExpirationMs);
 
         return Jwts.builder()
-                .setSubject(userDetails.getUsername())
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getEmail())
+                .claim(CLAIM_USER_ID, user.getId().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .claim("typ", "refresh")
+                .claim(CLAIM_TYPE, REFRESH_TYPE)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean isRefreshTokenValid(String token, UserDetails userDetails) {
-        Claims claims = parseClaims(token);
-        String type = claims.get("typ", String.class);
-        if (!"refresh".equals(type)) {
-            return false;
+    /**
+     * Parses {@code token} once, checking its signature and expiry.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if (claims.getSubject() == null) {
+            throw new MalformedJwtException("JWT has no subject");
         }
-        String username = claims.getSubject();
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(claims);
-    }
-
-    public String extractUsername(String token) {
-        return parseClaims(token).getSubject();
-    }
-
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return parseClaims(token).getExpiration().before(new Date());
-    }
-
-    private boolean isTokenExpired(Claims claims) {
-        return claims.getExpiration().before(new Date());
-    }
-
-    private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        String userId = claims.get(CLAIM_USER_ID, String.class);
+        return new VerifiedToken(
+                claims.getId() == null ? null : UUID.fromString(claims.getId()),
+                claims.getSubject(),
+                userId == null ? null : UUID.fromString(userId),
+                claims.get(CLAIM_ROLE, String.class),
+                REFRESH_TYPE.equals(claims.get(CLAIM_TYPE, String.class)),
+                claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant(),
+                claims.getExpiration() == null ? null : claims.getExpiration().toInstant());
     }
 }
@@ -0,0 +1,134 @@
+package com.smartevent.security;
+
+import com.smartevent.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * BCrypt on a dedicated, bounded pool, so a burst of logins cannot occupy every request thread
+ * with hashing. Callers wait for their hash; once {@code queue-capacity} requests are already
+ * waiting, new ones fail fast with 429.
+ *
+ * <p>The cost factor is fixed by {@code app.security.password-hashing.strength}, or calibrated at
+ * startup to the highest cost whose measured hash time fits {@code target-hash-ms}.
+ * {@link #upgradeEncoding} reports hashes made with a lower cost, so logins can rehash them.</p>
+ */
+public class PasswordHasher implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+
+    private final int strength;
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    /** Compared against when a login names an unknown user, so the response takes as long. */
+    private final String dummyHash;
+    private final Timer hashTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.strength = properties.getStrength() > 0 ? properties.getStrength() : calibrate(properties);
+        this.encoder = new BCryptPasswordEncoder(strength);
+        int threads = properties.getThreads() > 0
+                ? properties.getThreads()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                Thread.ofPlatform().name("password-hash-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.dummyHash = encoder.encode("dummy-password");
+
+        this.hashTimer = Timer.builder("password.hash").register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("Hashing requests refused with 429 because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+        logger.info("Password hashing: BCrypt cost {}, {} threads, queue of {}",
+                strength, threads, properties.getQueueCapacity());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /** Whether {@code encodedPassword} was hashed with a lower cost than the current one. */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+
+    /** Spends one verification on a dummy hash, for logins whose user does not exist. */
+    public void matchDummy(CharSequence rawPassword) {
+        matches(rawPassword, dummyHash);
+    }
+
+    public int strength() {
+        return strength;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.recordCallable(task));
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many sign-ins in progress, retry shortly");
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private static int calibrate(PasswordHashingProperties properties) {
+        int min = Math.max(4, properties.getMinStrength());
+        int max = Math.max(min, Math.min(31, properties.getMaxStrength()));
+        // Warm up, so the first measurement does not include class loading and JIT.
+        new BCryptPasswordEncoder(4).encode("calibration");
+
+        int chosen = min;
+        for (int cost = min; cost <= max; cost++) {
+            long start = System.nanoTime();
+            new BCryptPasswordEncoder(cost).encode("calibration");
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            logger.debug("BCrypt cost {} took {} ms", cost, elapsedMs);
+            if (elapsedMs > properties.getTargetHashMs()) {
+                break;
+            }
+            chosen = cost;
+        }
+        return chosen;
+    }
+}
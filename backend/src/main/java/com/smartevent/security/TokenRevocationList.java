@@ -0,0 +1,250 @@
+package com.smartevent.security;
+
+import com.smartevent.common.BloomFilter;
+import com.smartevent.config.TokenRevocationProperties;
+import com.smartevent.entity.RevokedToken;
+import com.smartevent.repository.RevokedTokenRepository;
+import com.smartevent.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Server-side token revocation, checked without a database query. Single tokens are revoked by
+ * their {@code jti} in {@code revoked_tokens}; all of a user's tokens by
+ * {@link com.smartevent.entity.User#getTokensValidAfter()}.
+ *
+ * <p>Both are mirrored in memory: a Bloom filter over the revoked ids answers the common case, a
+ * token that was never revoked, in a few bit reads, and only its hits are confirmed against the
+ * exact set. The copy is loaded at startup, updated on every revocation made here, and synced with
+ * the tables every {@code app.security.revocation.sync-interval-ms} to pick up revocations made by
+ * other instances and to drop expired ones. Queries run without a lock; their results are applied
+ * under a {@link ReentrantLock}, so a logout never waits for database I/O of a sync.</p>
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    /** Syncs re-read this far back, so a revocation committed late by another instance is not missed. */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserRepository userRepository;
+    private final TokenRevocationProperties properties;
+    private final TransactionTemplate transaction;
+    /** No token outlives this, so older cutoffs and revocations can be forgotten. */
+    private final Duration maxTokenLifetime;
+    private final Counter rejected;
+    private final Counter falsePositives;
+
+    /** Revoked, unexpired token ids and their expiry. */
+    private final Map<UUID, Instant> revoked = new ConcurrentHashMap<>();
+    /** Per-user cutoffs recent enough to matter for an unexpired token. */
+    private final Map<UUID, Instant> cutoffs = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    private volatile boolean loaded;
+    private volatile Instant lastSync;
+    /** Guards changes to the in-memory copy; never held across a database call. */
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Held by callers that arrive before the startup load, so the tables are read once. */
+    private final ReentrantLock initialLoad = new ReentrantLock();
+    private int filterCapacity;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               UserRepository userRepository,
+                               TokenRevocationProperties properties,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.jwt.refresh-expiration-ms}") long refreshExpirationMs) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.maxTokenLifetime = Duration.ofMillis(refreshExpirationMs);
+
+        this.rejected = Counter.builder("token.revocation.rejected")
+                .description("Tokens refused because they were revoked")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("token.revocation.false.positives")
+                .description("Bloom filter hits for tokens that were not revoked")
+                .register(meterRegistry);
+        Gauge.builder("token.revocation.revoked", revoked, Map::size).register(meterRegistry);
+        Gauge.builder("token.revocation.cutoffs", cutoffs, Map::size).register(meterRegistry);
+    }
+
+    /** Whether the token was revoked by id or issued before its user's cutoff. */
+    public boolean isRevoked(VerifiedToken token) {
+        return isRevoked(token, token.userId());
+    }
+
+    /**
+     * Same as {@link #isRevoked(VerifiedToken)}, with the cutoff of the given user: the owner
+     * resolved for a token that carries no user id claim.
+     */
+    public boolean isRevoked(VerifiedToken token, UUID userId) {
+        ensureLoaded();
+        UUID tokenId = token.tokenId();
+        if (tokenId != null && filter.mightContain(tokenId)) {
+            if (revoked.containsKey(tokenId)) {
+                rejected.increment();
+                return true;
+            }
+            falsePositives.increment();
+        }
+        if (userId != null && token.issuedAt() != null) {
+            Instant cutoff = cutoffs.get(userId);
+            if (cutoff != null && token.issuedAt().isBefore(cutoff)) {
+                rejected.increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Revokes a single token until it expires. Revoking it again has no effect. */
+    public void revoke(UUID tokenId, UUID userId, Instant expiresAt) {
+        ensureLoaded();
+        if (expiresAt == null || !expiresAt.isAfter(Instant.now()) || revoked.containsKey(tokenId)) {
+            return;
+        }
+        try {
+            transaction.executeWithoutResult(status ->
+                    revokedTokenRepository.save(new RevokedToken(tokenId, userId, expiresAt, Instant.now())));
+        } catch (DataIntegrityViolationException ex) {
+            // Revoked concurrently, possibly by another instance; the row is there either way.
+        }
+        remember(tokenId, expiresAt);
+    }
+
+    /**
+     * Revokes every token the user holds. Token issue times have second precision, so the cutoff
+     * is the start of the current second: a token issued in that same second stays valid, while a
+     * login right after this call is not rejected.
+     */
+    public void revokeAllFor(UUID userId) {
+        ensureLoaded();
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        transaction.executeWithoutResult(status -> userRepository.updateTokensValidAfter(userId, cutoff));
+        cutoffs.merge(userId, cutoff, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAtStartup() {
+        ensureLoaded();
+    }
+
+    @Scheduled(initialDelayString = "${app.security.revocation.sync-interval-ms:30000}",
+            fixedDelayString = "${app.security.revocation.sync-interval-ms:30000}")
+    public void sync() {
+        if (!loaded) {
+            ensureLoaded();
+            return;
+        }
+        Instant now = Instant.now();
+        Instant since = lastSync.minus(SYNC_OVERLAP);
+        List<RevokedToken> tokens = revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(since, now);
+        List<UserRepository.TokenCutoff> newCutoffs = userRepository.findByTokensValidAfterAfter(since);
+
+        boolean expired;
+        lock.lock();
+        try {
+            tokens.forEach(token -> remember(token.getId(), token.getExpiresAt()));
+            newCutoffs.forEach(this::mergeCutoff);
+            Instant oldestLiveIssue = now.minus(maxTokenLifetime);
+            cutoffs.values().removeIf(cutoff -> cutoff.isBefore(oldestLiveIssue));
+            expired = revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+            if (expired) {
+                // A Bloom filter cannot forget, so expired ids only leave it with a rebuild.
+                rebuildFilter();
+            }
+            lastSync = now;
+        } finally {
+            lock.unlock();
+        }
+        if (expired) {
+            transaction.executeWithoutResult(status -> revokedTokenRepository.deleteExpired(now));
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        initialLoad.lock();
+        try {
+            if (!loaded) {
+                load();
+            }
+        } finally {
+            initialLoad.unlock();
+        }
+    }
+
+    private void load() {
+        Instant now = Instant.now();
+        List<RevokedToken> tokens = revokedTokenRepository.findByExpiresAtAfter(now);
+        List<UserRepository.TokenCutoff> liveCutoffs =
+                userRepository.findByTokensValidAfterAfter(now.minus(maxTokenLifetime));
+
+        lock.lock();
+        try {
+            tokens.forEach(token -> revoked.put(token.getId(), token.getExpiresAt()));
+            liveCutoffs.forEach(this::mergeCutoff);
+            rebuildFilter();
+            lastSync = now;
+            loaded = true;
+        } finally {
+            lock.unlock();
+        }
+        logger.info("Token revocation list loaded: {} revoked tokens, {} user cutoffs", revoked.size(), cutoffs.size());
+    }
+
+    private void remember(UUID tokenId, Instant expiresAt) {
+        lock.lock();
+        try {
+            // Into the exact set first, so a concurrent check never sees a filter hit without it.
+            if (revoked.put(tokenId, expiresAt) != null) {
+                return;
+            }
+            if (revoked.size() > filterCapacity) {
+                rebuildFilter();
+            } else {
+                filter.add(tokenId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void mergeCutoff(UserRepository.TokenCutoff cutoff) {
+        cutoffs.merge(cutoff.getId(), cutoff.getTokensValidAfter(),
+                (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    /** Call with {@link #lock} held. */
+    private void rebuildFilter() {
+        filterCapacity = Math.max(properties.getExpectedRevocations(), revoked.size() * 2);
+        BloomFilter rebuilt = new BloomFilter(filterCapacity, properties.getFalsePositiveRate());
+        revoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+    }
+}
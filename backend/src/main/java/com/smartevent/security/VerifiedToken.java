@@ -0,0 +1,23 @@
+package com.smartevent.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The claims of a JWT whose signature and expiry {@link JwtUtil#verify} has checked.
+ * {@code tokenId}, {@code userId} and {@code role} are {@code null} in tokens issued before they
+ * were added.
+ */
+public record VerifiedToken(UUID tokenId,
+                            String subject,
+                            UUID userId,
+                            String role,
+                            boolean refresh,
+                            Instant issuedAt,
+                            Instant expiresAt) {
+
+    /** Whether the token alone identifies the user and role, without a user lookup. */
+    public boolean hasIdentityClaims() {
+        return userId != null && role != null;
+    }
+}
@@ -5,73 +5,151 @@ import com.smartevent.dto.AuthResponse;
 import com.smartevent.entity.Role;
 import com.smartevent.entity.User;
 import com.smartevent.repository.UserRepository;
-import com.smartevent.security.CustomUserDetailsService;
+import com.smartevent.security.AuthenticatedUser;
 import com.smartevent.security.JwtUtil;
+import com.smartevent.security.PasswordHasher;
+import com.smartevent.security.TokenRevocationList;
+import com.smartevent.security.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class AuthService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final AuthenticationManager authenticationManager;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
-    private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationList revocationList;
 
     public AuthService(UserRepository userRepository,
-                       PasswordEncoder passwordEncoder,
-                       AuthenticationManager authenticationManager,
+                       PasswordHasher passwordHasher,
                        JwtUtil jwtUtil,
-                       CustomUserDetailsService userDetailsService) {
+                       TokenRevocationList revocationList) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
-        this.authenticationManager = authenticationManager;
+        this.passwordHasher = passwordHasher;
         this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
+        this.revocationList = revocationList;
     }
 
     public AuthResponse register(AuthRequest request) {
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
+        // An index probe, so a taken address costs no hashing.
+        if (userRepository.existsByEmail(request.getEmail())) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Email already registered");
         }
 
         User user = new User();
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHasher.encode(request.getPassword()));
         user.setCodingPreferenceWeight(0.5);
         user.setCommunicationPreferenceWeight(0.5);
         user.setRole(Role.ROLE_USER);
-        userRepository.save(user);
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException ex) {
+            // Registered concurrently between the check and the insert.
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Email already registered");
+        }
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String token = jwtUtil.generateToken(userDetails);
-        String refreshToken = jwtUtil.generateRefreshToken(userDetails);
+        String token = jwtUtil.generateToken(user);
+        String refreshToken = jwtUtil.generateRefreshToken(user);
         return new AuthResponse(token, "Bearer", refreshToken);
     }
 
+    /**
+     * Verifies the password with one user lookup. A hash made with a lower cost than the current
+     * BCrypt strength is replaced by a fresh one while the plain password is at hand.
+     */
     public String login(AuthRequest request) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword()));
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        if (user == null) {
+            // Same work as a wrong password, so response times do not reveal registered addresses.
+            passwordHasher.matchDummy(request.getPassword());
+            throw new BadCredentialsException("Bad credentials");
+        }
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
+            throw new BadCredentialsException("Bad credentials");
+        }
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(request.getEmail());
-        return jwtUtil.generateToken(userDetails);
+        if (passwordHasher.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordHasher.encode(request.getPassword()));
+            userRepository.save(user);
+            logger.info("Rehashed password of user {} with BCrypt cost {}", user.getId(), passwordHasher.strength());
+        }
+        return jwtUtil.generateToken(user);
     }
 
     public String refreshAccessToken(String refreshToken) {
+        VerifiedToken verified = verifyRefreshToken(refreshToken);
+        if (revocationList.isRevoked(verified)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        // Re-read the user, so a new access token carries the current role.
+        User user = userRepository.findByEmail(verified.subject())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token"));
+        // The row also covers tokens without a user id claim, which the revocation list cannot match.
+        if (user.getTokensValidAfter() != null && verified.issuedAt() != null
+                && verified.issuedAt().isBefore(user.getTokensValidAfter())) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        return jwtUtil.generateToken(user);
+    }
+
+    /**
+     * Revokes the refresh token and, if given, the access token sent along with it. Logging out
+     * twice with the same token succeeds.
+     */
+    public void logout(String refreshToken, String accessToken) {
+        VerifiedToken refresh = verifyRefreshToken(refreshToken);
+        revoke(refresh);
+        if (accessToken == null) {
+            return;
+        }
+        try {
+            VerifiedToken access = jwtUtil.verify(accessToken);
+            if (!access.refresh() && access.subject().equals(refresh.subject())) {
+                revoke(access);
+            }
+        } catch (JwtException | IllegalArgumentException ex) {
+            // Already unusable.
+        }
+    }
+
+    /** Revokes every token of the calling user, on all devices. */
+    public void logoutEverywhere() {
+        revocationList.revokeAllFor(AuthenticatedUser.current().id());
+    }
+
+    private VerifiedToken verifyRefreshToken(String refreshToken) {
         if (refreshToken == null || refreshToken.isBlank()) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token required");
         }
-        String username = jwtUtil.extractUsername(refreshToken);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-        if (!jwtUtil.isRefreshTokenValid(refreshToken, userDetails)) {
+        VerifiedToken verified;
+        try {
+            verified = jwtUtil.verify(refreshToken);
+        } catch (JwtException | IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
         }
-        return jwtUtil.generateToken(userDetails);
+        if (!verified.refresh()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        return verified;
+    }
+
+    private void revoke(VerifiedToken token) {
+        if (token.tokenId() != null && token.userId() != null) {
+            revocationList.revoke(token.tokenId(), token.userId(), token.expiresAt());
+            return;
+        }
+        // Issued before tokens had ids, so it can only be revoked with all of the user's tokens.
+        userRepository.findByEmail(token.subject())
+                .ifPresent(user -> revocationList.revokeAllFor(user.getId()));
     }
 }
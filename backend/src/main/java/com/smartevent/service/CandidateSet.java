@@ -0,0 +1,42 @@
+package com.smartevent.service;
+
+import com.smartevent.entity.Event;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The events to rank for one request: {@code selected} slots of a columnar snapshot, and, when the
+ * candidates came from the tag index, the slots that match one of the user's interests. Without
+ * {@code interestMatches} the scoring engine matches tags itself.
+ */
+public record CandidateSet(ScoringColumns columns, BitSet selected, BitSet interestMatches) {
+
+    /** All of {@code events}, in a snapshot of their own; {@code null} elements are dropped. */
+    public static CandidateSet of(Collection<Event> events) {
+        Event[] nonNull = events == null
+                ? new Event[0]
+                : events.stream().filter(Objects::nonNull).toArray(Event[]::new);
+        BitSet selected = new BitSet(nonNull.length);
+        selected.set(0, nonNull.length);
+        return new CandidateSet(ScoringColumns.of(nonNull), selected, null);
+    }
+
+    public boolean isEmpty() {
+        return selected.isEmpty();
+    }
+
+    public int size() {
+        return selected.cardinality();
+    }
+
+    public List<Event> events() {
+        List<Event> events = new ArrayList<>(size());
+        for (int slot = selected.nextSetBit(0); slot >= 0; slot = selected.nextSetBit(slot + 1)) {
+            events.add(columns.event(slot));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,12 @@
+package com.smartevent.service;
+
+/**
+ * Outcome of one ingestion run. {@code version} is the catalog version the changed rows were
+ * stamped with; it only becomes current if {@link #changed()} is true.
+ */
+public record CatalogDelta(long version, int inserted, int updated, int unchanged, int reenriched, int tombstoned) {
+
+    public boolean changed() {
+        return inserted + updated + reenriched + tombstoned > 0;
+    }
+}
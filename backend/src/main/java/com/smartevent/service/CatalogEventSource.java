@@ -0,0 +1,77 @@
+package com.smartevent.service;
+
+import com.smartevent.dto.ExternalEventDto;
+import com.smartevent.entity.Event;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * The local {@code events} catalog exposed as a source, so trending requests can be answered
+ * without the upstream API. It is itself fed by ingestion, so it never feeds the catalog.
+ */
+@Component
+public class CatalogEventSource implements EventSource {
+
+    private final EventCatalogService eventCatalogService;
+    private final Scheduler jdbcScheduler;
+
+    public CatalogEventSource(EventCatalogService eventCatalogService,
+                              @Qualifier("jdbcScheduler") Scheduler jdbcScheduler) {
+        this.eventCatalogService = eventCatalogService;
+        this.jdbcScheduler = jdbcScheduler;
+    }
+
+    @Override
+    public String getName() {
+        return "catalog";
+    }
+
+    @Override
+    public boolean feedsCatalog() {
+        return false;
+    }
+
+    @Override
+    public Mono<List<ExternalEventDto>> fetchEvents(EventQuery query) {
+        return Mono.fromCallable(() -> eventCatalogService.findUpcomingEvents(query.countryCode()))
+                .subscribeOn(jdbcScheduler)
+                .map(events -> events.stream()
+                        .filter(event -> matchesKeyword(event, query.keyword()))
+                        .map(this::toDto)
+                        .toList());
+    }
+
+    private boolean matchesKeyword(Event event, String keyword) {
+        if (keyword == null) {
+            return true;
+        }
+        String title = event.getTitle().toLowerCase(Locale.ROOT);
+        for (String term : keyword.split("\\s+")) {
+            if (!title.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ExternalEventDto toDto(Event event) {
+        ExternalEventDto dto = new ExternalEventDto();
+        // Ingested events keep their upstream id, so they de-duplicate against live Ticketmaster results.
+        dto.setId(event.getExternalId() != null ? event.getExternalId() : String.valueOf(event.getId()));
+        dto.setTitle(event.getTitle());
+        dto.setLocation(event.getLocation());
+        dto.setCountryCode(event.getCountryCode());
+        dto.setEventDate(event.getEventDate());
+        dto.setCategory(event.getCategory() == null ? null : event.getCategory().name());
+        dto.setPopularityScore(event.getPopularityScore());
+        dto.setCodingImpactScore(event.getCodingImpactScore());
+        dto.setCommunicationImpactScore(event.getCommunicationImpactScore());
+        dto.setTags(new HashSet<>(event.getTags()));
+        return dto;
+    }
+}
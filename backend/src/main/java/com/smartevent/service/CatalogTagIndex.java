@@ -0,0 +1,263 @@
+package com.smartevent.service;
+
+import com.smartevent.common.TagBits;
+import com.smartevent.entity.Event;
+import com.smartevent.repository.EventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-memory inverted index over the upcoming strict-tech catalog: for every {@link TagCatalog} id, a
+ * bitset of the catalog slots carrying that tag, plus one bitset per country and the slots in
+ * popularity order. Postings are built from the events' stored tag bits.
+ *
+ * <p>Candidate generation unions a user's interest postings and backfills with the most popular
+ * events, so scoring visits the events that can rank instead of the whole catalog. The index is an
+ * immutable snapshot built at startup and swapped on every {@link CatalogUpdatedEvent}, before other
+ * listeners such as {@link RecommendationMaterializer} run. Snapshots are built without holding a
+ * monitor, so a virtual thread waiting for the first one does not pin its carrier.</p>
+ */
+@Component
+public class CatalogTagIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogTagIndex.class);
+
+    /** Listener order: the index must be current before anything recomputes recommendations. */
+    static final int LISTENER_ORDER = 0;
+
+    private final EventRepository eventRepository;
+    private final KeywordClassifier keywordClassifier;
+    private final CatalogVersionTracker versionTracker;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TagCatalog tagCatalog;
+    private final Timer lookupTimer;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    /** Held only by requests that arrive before the startup build, so they build the index once. */
+    private final ReentrantLock initialBuild = new ReentrantLock();
+
+    public CatalogTagIndex(EventRepository eventRepository,
+                           KeywordClassifier keywordClassifier,
+                           CatalogVersionTracker versionTracker,
+                           TagCatalog tagCatalog,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.keywordClassifier = keywordClassifier;
+        this.versionTracker = versionTracker;
+        this.tagCatalog = tagCatalog;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.lookupTimer = Timer.builder("catalog.index.lookup").register(meterRegistry);
+        Gauge.builder("catalog.index.events", this, index -> index.snapshotSize(Snapshot::eventCount))
+                .register(meterRegistry);
+        Gauge.builder("catalog.index.tags", tagCatalog, TagCatalog::size).register(meterRegistry);
+        Gauge.builder("catalog.index.memory", this, index -> index.snapshotSize(Snapshot::estimatedBytes))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildAtStartup() {
+        if (snapshot.get() == null) {
+            rebuild();
+        }
+    }
+
+    @EventListener
+    @Order(LISTENER_ORDER)
+    public void onCatalogUpdated(CatalogUpdatedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Candidate events for a user in {@code countryCode} (or the whole catalog when the country has
+     * no events): every event tagged with one of {@code interestBits}, plus up to {@code backfill} of
+     * the most popular remaining events. The set carries the snapshot's scoring columns and the
+     * interest matches, so ranking needs no per-event tag lookups.
+     */
+    public CandidateSet candidates(String countryCode, long[] interestBits, int backfill) {
+        Snapshot current = current();
+        long start = System.nanoTime();
+        try {
+            return current.candidates(countryCode, interestBits, backfill, LocalDate.now());
+        } finally {
+            lookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        initialBuild.lock();
+        try {
+            current = snapshot.get();
+            return current != null ? current : rebuild();
+        } finally {
+            initialBuild.unlock();
+        }
+    }
+
+    /** Builds a snapshot and publishes it unless a newer one was published meanwhile. */
+    private Snapshot rebuild() {
+        long start = System.nanoTime();
+        long version = versionTracker.current();
+        List<Event> events = readOnlyTransaction.execute(status ->
+                eventRepository.findUpcoming(LocalDate.now()).stream()
+                        .filter(event -> keywordClassifier.isStrictTech(event.getTitle()))
+                        .toList());
+        Snapshot built = Snapshot.build(version, events == null ? List.of() : events, tagCatalog);
+        Snapshot published = snapshot.accumulateAndGet(built,
+                (current, next) -> current == null || next.version() >= current.version() ? next : current);
+        if (published != built) {
+            return published;
+        }
+        logger.info("Catalog index v{} built: {} events, {} tags, ~{} KiB in {} ms",
+                built.version(), built.eventCount(), tagCatalog.size(), built.estimatedBytes() / 1024,
+                (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+
+    private double snapshotSize(ToLongFunction<Snapshot> metric) {
+        Snapshot current = snapshot.get();
+        return current == null ? 0 : metric.applyAsLong(current);
+    }
+
+    private static final class Snapshot {
+
+        private final long version;
+        private final ScoringColumns columns;
+        private final BitSet[] postings;
+        private final Map<String, BitSet> countries;
+        private final int[] byPopularity;
+
+        private Snapshot(long version,
+                         ScoringColumns columns,
+                         BitSet[] postings,
+                         Map<String, BitSet> countries,
+                         int[] byPopularity) {
+            this.version = version;
+            this.columns = columns;
+            this.postings = postings;
+            this.countries = countries;
+            this.byPopularity = byPopularity;
+        }
+
+        static Snapshot build(long version, List<Event> catalog, TagCatalog tagCatalog) {
+            Event[] events = catalog.toArray(new Event[0]);
+            List<BitSet> postings = new ArrayList<>();
+            Map<String, BitSet> countries = new HashMap<>();
+            for (int slot = 0; slot < events.length; slot++) {
+                Event event = events[slot];
+                int eventSlot = slot;
+                TagBits.forEach(tagCatalog.tagBits(event), id -> {
+                    while (postings.size() <= id) {
+                        postings.add(null);
+                    }
+                    if (postings.get(id) == null) {
+                        postings.set(id, new BitSet(events.length));
+                    }
+                    postings.get(id).set(eventSlot);
+                });
+                if (event.getCountryCode() != null) {
+                    countries.computeIfAbsent(event.getCountryCode().toUpperCase(Locale.ROOT),
+                            code -> new BitSet(events.length)).set(slot);
+                }
+            }
+            int[] byPopularity = IntStream.range(0, events.length)
+                    .boxed()
+                    .sorted(Comparator.comparingInt((Integer slot) -> popularity(events[slot])).reversed())
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            return new Snapshot(version, ScoringColumns.of(events), postings.toArray(new BitSet[0]), countries, byPopularity);
+        }
+
+        CandidateSet candidates(String countryCode, long[] interestBits, int backfill, LocalDate today) {
+            int size = columns.size();
+            BitSet scope = countryCode == null || countryCode.isBlank()
+                    ? null
+                    : countries.get(countryCode.trim().toUpperCase(Locale.ROOT));
+
+            BitSet interestMatches = new BitSet(size);
+            TagBits.forEach(interestBits, id -> {
+                if (id < postings.length && postings[id] != null) {
+                    interestMatches.or(postings[id]);
+                }
+            });
+            BitSet selected = (BitSet) interestMatches.clone();
+            if (scope != null) {
+                selected.and(scope);
+            }
+
+            int added = 0;
+            for (int i = 0; i < byPopularity.length && added < backfill; i++) {
+                int slot = byPopularity[i];
+                if (!selected.get(slot) && (scope == null || scope.get(slot))) {
+                    selected.set(slot);
+                    added++;
+                }
+            }
+
+            // Events that passed since the last rebuild are skipped until ingestion tombstones them.
+            long todayEpochDay = today.toEpochDay();
+            for (int slot = selected.nextSetBit(0); slot >= 0; slot = selected.nextSetBit(slot + 1)) {
+                int epochDay = columns.epochDays[slot];
+                if (epochDay != ScoringColumns.NO_DATE && epochDay < todayEpochDay) {
+                    selected.clear(slot);
+                }
+            }
+            return new CandidateSet(columns, selected, interestMatches);
+        }
+
+        long version() {
+            return version;
+        }
+
+        long eventCount() {
+            return columns.size();
+        }
+
+        long estimatedBytes() {
+            long bytes = columns.estimatedBytes() + (long) byPopularity.length * Integer.BYTES
+                    + (long) postings.length * 8;
+            for (BitSet posting : postings) {
+                if (posting != null) {
+                    bytes += posting.size() / 8;
+                }
+            }
+            for (BitSet country : countries.values()) {
+                bytes += country.size() / 8;
+            }
+            return bytes;
+        }
+
+        private static int popularity(Event event) {
+            return event.getPopularityScore() == null ? 0 : event.getPopularityScore();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.smartevent.service;
+
+/**
+ * Published after an ingestion run changed the catalog. Caches derived from catalog contents can
+ * compare {@link CatalogDelta#version()} against the version they were built from.
+ */
+public record CatalogUpdatedEvent(CatalogDelta delta) {
+
+    public long version() {
+        return delta.version();
+    }
+}
@@ -0,0 +1,47 @@
+package com.smartevent.service;
+
+import com.smartevent.repository.EventRepository;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the current catalog version: the highest version any event row was stamped with.
+ * Loaded from the database on first use and advanced by ingestion after each committed change.
+ */
+@Component
+public class CatalogVersionTracker {
+
+    private static final long UNINITIALIZED = -1;
+
+    private final EventRepository eventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicLong version = new AtomicLong(UNINITIALIZED);
+
+    public CatalogVersionTracker(EventRepository eventRepository, ApplicationEventPublisher eventPublisher) {
+        this.eventRepository = eventRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public long current() {
+        long current = version.get();
+        if (current == UNINITIALIZED) {
+            version.compareAndSet(UNINITIALIZED, eventRepository.findMaxCatalogVersion());
+            current = version.get();
+        }
+        return current;
+    }
+
+    public long next() {
+        return current() + 1;
+    }
+
+    /** Makes a committed delta's version current and notifies listeners. */
+    public void publish(CatalogDelta delta) {
+        if (!delta.changed()) {
+            return;
+        }
+        version.accumulateAndGet(delta.version(), Math::max);
+        eventPublisher.publishEvent(new CatalogUpdatedEvent(delta));
+    }
+}
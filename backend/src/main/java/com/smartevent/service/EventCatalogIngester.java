@@ -0,0 +1,94 @@
+package com.smartevent.service;
+
+import com.smartevent.config.CatalogProperties;
+import com.smartevent.dto.ExternalEventDto;
+import com.smartevent.repository.UserRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pulls upcoming events from the catalog-feeding event sources on a fixed delay and applies them to the
+ * local {@code events} catalog as a delta, so recommendation requests never wait on the upstream API.
+ * Each run that changes the catalog advances the catalog version and publishes a {@link CatalogUpdatedEvent}.
+ */
+@Component
+public class EventCatalogIngester {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventCatalogIngester.class);
+
+    private final EventSourceAggregator eventSourceAggregator;
+    private final EventCatalogService eventCatalogService;
+    private final UserRepository userRepository;
+    private final CatalogProperties catalogProperties;
+    private final CatalogVersionTracker catalogVersionTracker;
+
+    public EventCatalogIngester(EventSourceAggregator eventSourceAggregator,
+                                EventCatalogService eventCatalogService,
+                                UserRepository userRepository,
+                                CatalogProperties catalogProperties,
+                                CatalogVersionTracker catalogVersionTracker) {
+        this.eventSourceAggregator = eventSourceAggregator;
+        this.eventCatalogService = eventCatalogService;
+        this.userRepository = userRepository;
+        this.catalogProperties = catalogProperties;
+        this.catalogVersionTracker = catalogVersionTracker;
+    }
+
+    @Scheduled(initialDelayString = "${app.catalog.initial-delay-ms:5000}",
+            fixedDelayString = "${app.catalog.refresh-interval-ms:900000}")
+    public void ingest() {
+        if (!catalogProperties.isIngestionEnabled()) {
+            return;
+        }
+
+        Map<String, ExternalEventDto> fetched = new LinkedHashMap<>();
+        for (String countryCode : resolveCountryCodes()) {
+            // Runs on the scheduling thread, so waiting for the fetch here blocks no request.
+            List<ExternalEventDto> events =
+                    eventSourceAggregator.fetchCatalogEvents(EventQuery.of(countryCode, null)).block();
+            if (events != null) {
+                events.forEach(dto -> fetched.putIfAbsent(dto.getId(), dto));
+            }
+        }
+
+        // A run that fetched nothing is more likely an outage than an empty upstream: only expire past events.
+        Instant now = Instant.now();
+        Instant seenBefore = fetched.isEmpty()
+                ? Instant.EPOCH
+                : now.minusMillis(catalogProperties.getTombstoneAfterMs());
+        CatalogDelta delta = eventCatalogService.applyDelta(
+                fetched.values(), now, seenBefore, catalogVersionTracker.next());
+        catalogVersionTracker.publish(delta);
+
+        logger.info("Catalog ingestion: {} inserted, {} updated, {} unchanged, {} re-enriched, {} tombstoned; "
+                        + "catalog version {}", delta.inserted(), delta.updated(), delta.unchanged(),
+                delta.reenriched(), delta.tombstoned(), catalogVersionTracker.current());
+    }
+
+    private List<String> resolveCountryCodes() {
+        Set<String> countryCodes = new LinkedHashSet<>();
+        for (String code : catalogProperties.getCountryCodes()) {
+            if (code != null && !code.isBlank()) {
+                countryCodes.add(code.trim().toUpperCase());
+            }
+        }
+        if (catalogProperties.isIncludeUserLocations()) {
+            countryCodes.addAll(userRepository.findDistinctLocations());
+        }
+
+        List<String> result = new ArrayList<>();
+        // A null country code is the unfiltered query, which feeds users without a location.
+        result.add(null);
+        result.addAll(countryCodes);
+        return result;
+    }
+}
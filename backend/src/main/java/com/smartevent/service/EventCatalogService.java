@@ -0,0 +1,226 @@
+package com.smartevent.service;
+
+import com.smartevent.dto.ExternalEventDto;
+import com.smartevent.entity.Event;
+import com.smartevent.entity.EventCategory;
+import com.smartevent.entity.EventMode;
+import com.smartevent.repository.EventRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class EventCatalogService {
+
+    private static final int MARK_SEEN_BATCH = 1000;
+
+    private final EventRepository eventRepository;
+    private final EventEnricher eventEnricher;
+    private final TagCatalog tagCatalog;
+
+    public EventCatalogService(EventRepository eventRepository, EventEnricher eventEnricher, TagCatalog tagCatalog) {
+        this.eventRepository = eventRepository;
+        this.eventEnricher = eventEnricher;
+        this.tagCatalog = tagCatalog;
+    }
+
+    /**
+     * Applies one ingestion run to the catalog, keyed on the upstream event id:
+     * <ul>
+     *   <li>rows enriched under an older {@code app.enrichment.version} are recomputed;</li>
+     *   <li>new events are inserted, and existing ones rewritten only if their fingerprint changed;</li>
+     *   <li>unchanged events just get their {@code lastSeenAt} bumped in bulk;</li>
+     *   <li>events that are in the past or were last seen before {@code seenBefore} are tombstoned.</li>
+     * </ul>
+     * Every changed row is stamped with {@code version}.
+     */
+    @Transactional
+    public CatalogDelta applyDelta(Collection<ExternalEventDto> externalEvents,
+                                   Instant seenAt,
+                                   Instant seenBefore,
+                                   long version) {
+        int reenriched = refreshEnrichment(version);
+
+        Map<String, ExternalEventDto> byExternalId = new LinkedHashMap<>();
+        for (ExternalEventDto dto : externalEvents) {
+            if (dto != null && dto.getId() != null && dto.getTitle() != null) {
+                byExternalId.putIfAbsent(dto.getId(), dto);
+            }
+        }
+
+        Map<String, Event> existing = byExternalId.isEmpty()
+                ? Map.of()
+                : eventRepository.findAllByExternalIdIn(byExternalId.keySet()).stream()
+                        .collect(Collectors.toMap(Event::getExternalId, Function.identity()));
+
+        int inserted = 0;
+        int updated = 0;
+        List<Event> toSave = new ArrayList<>();
+        List<String> unchanged = new ArrayList<>();
+        for (ExternalEventDto dto : byExternalId.values()) {
+            // Sources normally enrich already; this only fills gaps.
+            eventEnricher.enrich(dto);
+            String fingerprint = fingerprint(dto);
+            Event event = existing.get(dto.getId());
+            if (event != null && !event.isTombstoned() && fingerprint.equals(event.getContentFingerprint())) {
+                unchanged.add(dto.getId());
+                continue;
+            }
+            if (event == null) {
+                event = new Event();
+                inserted++;
+            } else {
+                updated++;
+            }
+            apply(event, dto);
+            event.setContentFingerprint(fingerprint);
+            event.setLastSeenAt(seenAt);
+            event.setTombstoned(false);
+            event.setCatalogVersion(version);
+            toSave.add(event);
+        }
+        eventRepository.saveAll(toSave);
+
+        for (int from = 0; from < unchanged.size(); from += MARK_SEEN_BATCH) {
+            int to = Math.min(from + MARK_SEEN_BATCH, unchanged.size());
+            eventRepository.markSeen(unchanged.subList(from, to), seenAt);
+        }
+
+        int tombstoned = eventRepository.tombstoneExpired(LocalDate.now(), seenBefore, version);
+        return new CatalogDelta(version, inserted, updated, unchanged.size(), reenriched, tombstoned);
+    }
+
+    private int refreshEnrichment(long version) {
+        List<Event> stale = eventRepository.findByStaleEnrichment(eventEnricher.getVersion());
+        for (Event event : stale) {
+            EventEnricher.Features features = eventEnricher.features(event.getExternalId(), event.getTitle());
+            event.setCategory(toCategory(features.category()));
+            event.setPopularityScore(features.popularityScore());
+            event.setCodingImpactScore(features.codingImpactScore());
+            event.setCommunicationImpactScore(features.communicationImpactScore());
+            event.getTags().clear();
+            event.getTags().addAll(features.tags());
+            event.setTagBits(tagCatalog.encode(event.getTags()));
+            event.setEnrichmentVersion(eventEnricher.getVersion());
+            event.setContentFingerprint(fingerprint(event.getTitle(), event.getLocation(), event.getCountryCode(),
+                    event.getEventDate(), event.getCategory(), event.getPopularityScore(),
+                    event.getCodingImpactScore(), event.getCommunicationImpactScore(), event.getTags()));
+            event.setCatalogVersion(version);
+        }
+        return stale.size();
+    }
+
+    /**
+     * Upcoming catalog events for a country, falling back to the whole catalog when the
+     * country has no events yet (or no country is known).
+     */
+    @Transactional(readOnly = true)
+    public List<Event> findUpcomingEvents(String countryCode) {
+        LocalDate today = LocalDate.now();
+        if (countryCode != null && !countryCode.isBlank()) {
+            List<Event> local = eventRepository.findUpcomingByCountryCode(today, countryCode.trim().toUpperCase());
+            if (!local.isEmpty()) {
+                return local;
+            }
+        }
+        return eventRepository.findUpcoming(today);
+    }
+
+    private Event apply(Event event, ExternalEventDto dto) {
+        event.setExternalId(dto.getId());
+        event.setTitle(dto.getTitle());
+
+        // No description in external API → use title as fallback
+        event.setDescription(dto.getTitle());
+
+        event.setCategory(toCategory(dto.getCategory()));
+        event.setLocation(dto.getLocation());
+        event.setCountryCode(dto.getCountryCode() == null ? null : dto.getCountryCode().toUpperCase());
+
+        // External events are assumed ONLINE
+        event.setMode(EventMode.ONLINE);
+
+        event.setEventDate(dto.getEventDate());
+        event.setPopularityScore(dto.getPopularityScore());
+        event.setCodingImpactScore(dto.getCodingImpactScore());
+        event.setCommunicationImpactScore(dto.getCommunicationImpactScore());
+
+        event.getTags().clear();
+        event.getTags().addAll(normalizeTags(dto.getTags()));
+        event.setTagBits(tagCatalog.encode(event.getTags()));
+        event.setEnrichmentVersion(eventEnricher.getVersion());
+        return event;
+    }
+
+    private String fingerprint(ExternalEventDto dto) {
+        return fingerprint(dto.getTitle(), dto.getLocation(), dto.getCountryCode(), dto.getEventDate(),
+                toCategory(dto.getCategory()), dto.getPopularityScore(), dto.getCodingImpactScore(),
+                dto.getCommunicationImpactScore(), normalizeTags(dto.getTags()));
+    }
+
+    /** Tags are stored trimmed and lower-case so scoring can match them against interests as-is. */
+    private Set<String> normalizeTags(Set<String> tags) {
+        if (tags == null) {
+            return Set.of();
+        }
+        Set<String> normalized = new TreeSet<>();
+        for (String tag : tags) {
+            if (tag != null && !tag.isBlank()) {
+                normalized.add(tag.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return normalized;
+    }
+
+    /** 64-bit FNV-1a over the ingested fields and the enrichment version, as 16 hex digits. */
+    private String fingerprint(String title, String location, String countryCode, LocalDate eventDate,
+                               EventCategory category, Integer popularity, Integer coding, Integer communication,
+                               Set<String> tags) {
+        StringBuilder content = new StringBuilder(128)
+                .append(title).append('\u0001')
+                .append(location).append('\u0001')
+                .append(countryCode == null ? null : countryCode.toUpperCase()).append('\u0001')
+                .append(eventDate).append('\u0001')
+                .append(category).append('\u0001')
+                .append(popularity).append('\u0001')
+                .append(coding).append('\u0001')
+                .append(communication).append('\u0001')
+                .append(tags == null ? List.of() : new TreeSet<>(tags)).append('\u0001')
+                .append(eventEnricher.getVersion());
+
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < content.length(); i++) {
+            hash ^= content.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return HexFormat.of().toHexDigits(hash);
+    }
+
+    private EventCategory toCategory(String value) {
+
+        if (value == null || value.isBlank()) {
+            return EventCategory.OTHER;
+        }
+
+        String normalized =
+                value.trim().replace(" ", "_").toUpperCase();
+
+        try {
+            return EventCategory.valueOf(normalized);
+        } catch (IllegalArgumentException ex) {
+            return EventCategory.OTHER;
+        }
+    }
+}
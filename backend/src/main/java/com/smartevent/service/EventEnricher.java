@@ -0,0 +1,112 @@
+package com.smartevent.service;
+
+import com.smartevent.config.EnrichmentProperties;
+import com.smartevent.dto.ExternalEventDto;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * Derives category, tags and popularity/impact scores for an event.
+ *
+ * <p>Scores are drawn from the ranges of the matching rule in {@code app.enrichment}, but the
+ * position inside each range is a hash of the event id and title rather than a random number,
+ * so the same event always gets the same features. Results carry {@link #getVersion()} so stored
+ * events can be recomputed only when the rules change.</p>
+ */
+@Component
+public class EventEnricher {
+
+    private static final int POPULARITY = 1;
+    private static final int CODING = 2;
+    private static final int COMMUNICATION = 3;
+
+    private final EnrichmentProperties enrichmentProperties;
+    private final KeywordClassifier keywordClassifier;
+
+    public EventEnricher(EnrichmentProperties enrichmentProperties, KeywordClassifier keywordClassifier) {
+        this.enrichmentProperties = enrichmentProperties;
+        this.keywordClassifier = keywordClassifier;
+    }
+
+    public record Features(String category, Set<String> tags, int popularityScore,
+                           int codingImpactScore, int communicationImpactScore) {
+    }
+
+    public int getVersion() {
+        return enrichmentProperties.getVersion();
+    }
+
+    public Features features(String id, String title) {
+        String text = title == null ? "" : title.toLowerCase(Locale.ROOT);
+        long seed = seed(id, text);
+        KeywordClassifier.Classification classification = keywordClassifier.classify(text);
+        EnrichmentProperties.Rule rule = classification.impactRule() != null
+                ? classification.impactRule()
+                : enrichmentProperties.getDefaultRule();
+        return new Features(
+                classification.category(),
+                splitCategoryTags(classification.category()),
+                pick(seed, POPULARITY, enrichmentProperties.getPopularity()),
+                pick(seed, CODING, rule.getCoding()),
+                pick(seed, COMMUNICATION, rule.getCommunication()));
+    }
+
+    /** Fills in whichever features the source did not provide. */
+    public ExternalEventDto enrich(ExternalEventDto dto) {
+        Features features = features(dto.getId(), dto.getTitle());
+        if (dto.getCategory() == null) {
+            dto.setCategory(features.category());
+        }
+        if (dto.getTags() == null || dto.getTags().isEmpty()) {
+            dto.setTags(features.tags());
+        }
+        if (dto.getPopularityScore() == null) {
+            dto.setPopularityScore(features.popularityScore());
+        }
+        if (dto.getCodingImpactScore() == null) {
+            dto.setCodingImpactScore(features.codingImpactScore());
+        }
+        if (dto.getCommunicationImpactScore() == null) {
+            dto.setCommunicationImpactScore(features.communicationImpactScore());
+        }
+        return dto;
+    }
+
+    private static long seed(String id, String text) {
+        // String.hashCode is specified by the JLS, so seeds are stable across JVMs and restarts.
+        long idHash = id == null ? 0 : id.hashCode();
+        return (idHash << 32) ^ (text.hashCode() & 0xffffffffL);
+    }
+
+    private static int pick(long seed, int feature, EnrichmentProperties.Range range) {
+        int span = range.getMax() - range.getMin() + 1;
+        if (span <= 1) {
+            return range.getMin();
+        }
+        return range.getMin() + (int) Math.floorMod(mix(seed + feature * 0x9E3779B97F4A7C15L), (long) span);
+    }
+
+    /** SplitMix64 finalizer: spreads nearby seeds across the whole range. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private Set<String> splitCategoryTags(String category) {
+        if (category == null || category.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<String> tags = new LinkedHashSet<>();
+        for (String part : category.split("\\s+")) {
+            String trimmed = part.trim();
+            if (!trimmed.isBlank()) {
+                tags.add(trimmed.toLowerCase(Locale.ROOT));
+            }
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,22 @@
+package com.smartevent.service;
+
+/**
+ * A normalized event search: upper-case country code and lower-case keyword, blank values as {@code null}.
+ * Equal queries are interchangeable, so the record doubles as a cache key.
+ */
+public record EventQuery(String countryCode, String keyword) {
+
+    public static EventQuery of(String countryCode, String keyword) {
+        String normalizedCountry = countryCode == null || countryCode.isBlank()
+                ? null
+                : countryCode.trim().toUpperCase();
+        String normalizedKeyword = keyword == null || keyword.isBlank()
+                ? null
+                : keyword.trim().toLowerCase();
+        return new EventQuery(normalizedCountry, normalizedKeyword);
+    }
+
+    public EventQuery withoutKeyword() {
+        return keyword == null ? this : new EventQuery(countryCode, null);
+    }
+}
@@ -0,0 +1,26 @@
+package com.smartevent.service;
+
+import com.smartevent.dto.ExternalEventDto;
+import java.util.List;
+import reactor.core.publisher.Mono;
+
+/**
+ * A provider of upcoming events. Sources are combined by {@link EventSourceAggregator}, which
+ * queries the enabled ones concurrently and merges whatever arrives before its deadline.
+ */
+public interface EventSource {
+
+    /** Name used in {@code app.sources.enabled} and in metrics. */
+    String getName();
+
+    /**
+     * Events matching the query. Implementations must not block the calling thread and should
+     * signal an error rather than return partial garbage; the aggregator drops failing sources.
+     */
+    Mono<List<ExternalEventDto>> fetchEvents(EventQuery query);
+
+    /** Whether results should be written into the local catalog during ingestion. */
+    default boolean feedsCatalog() {
+        return true;
+    }
+}
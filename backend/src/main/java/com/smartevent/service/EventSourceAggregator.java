@@ -0,0 +1,143 @@
+package com.smartevent.service;
+
+import com.smartevent.config.EventSourceProperties;
+import com.smartevent.dto.ExternalEventDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Queries every enabled {@link EventSource} concurrently under one shared deadline and merges
+ * the results that arrived in time. A slow or failing source is dropped, not waited for.
+ *
+ * <p>Results are de-duplicated by id and by title plus date, so the same event from two
+ * sources is kept once; the source listed first in {@code app.sources.enabled} wins.</p>
+ */
+@Service
+public class EventSourceAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventSourceAggregator.class);
+
+    private final List<EventSource> sources;
+    private final EventSourceProperties eventSourceProperties;
+    private final MeterRegistry meterRegistry;
+
+    public EventSourceAggregator(List<EventSource> eventSources,
+                                 EventSourceProperties eventSourceProperties,
+                                 MeterRegistry meterRegistry) {
+        this.eventSourceProperties = eventSourceProperties;
+        this.meterRegistry = meterRegistry;
+
+        Map<String, EventSource> byName = new LinkedHashMap<>();
+        for (EventSource source : eventSources) {
+            byName.put(source.getName(), source);
+        }
+        List<EventSource> enabled = new ArrayList<>();
+        for (String name : eventSourceProperties.getEnabled()) {
+            EventSource source = byName.get(name.trim());
+            if (source == null) {
+                logger.warn("Ignoring unknown event source '{}'; available: {}", name, byName.keySet());
+            } else if (!enabled.contains(source)) {
+                enabled.add(source);
+            }
+        }
+        this.sources = List.copyOf(enabled);
+        logger.info("Event sources enabled: {}", sources.stream().map(EventSource::getName).toList());
+    }
+
+    /** All enabled sources, for request-time reads. */
+    public Mono<List<ExternalEventDto>> fetchEvents(EventQuery query) {
+        return fetch(sources, query, Duration.ofMillis(eventSourceProperties.getDeadlineMs()));
+    }
+
+    /** Enabled sources that feed the catalog, with the longer ingestion deadline. */
+    public Mono<List<ExternalEventDto>> fetchCatalogEvents(EventQuery query) {
+        List<EventSource> feeding = sources.stream().filter(EventSource::feedsCatalog).toList();
+        return fetch(feeding, query, Duration.ofMillis(eventSourceProperties.getIngestionDeadlineMs()));
+    }
+
+    private Mono<List<ExternalEventDto>> fetch(List<EventSource> selected, EventQuery query, Duration deadline) {
+        if (selected.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return Flux.range(0, selected.size())
+                .flatMap(index -> fetchFrom(selected.get(index), query).map(events -> new SourceResult(index, events)))
+                // Shared deadline: complete with whatever arrived and cancel the stragglers.
+                .take(deadline)
+                .collectList()
+                .map(this::merge);
+    }
+
+    private Mono<List<ExternalEventDto>> fetchFrom(EventSource source, EventQuery query) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        AtomicBoolean finished = new AtomicBoolean();
+        return Mono.defer(() -> source.fetchEvents(query))
+                .defaultIfEmpty(List.of())
+                .doOnNext(events -> {
+                    finished.set(true);
+                    sample.stop(timer(source, "success"));
+                })
+                .onErrorResume(ex -> {
+                    finished.set(true);
+                    sample.stop(timer(source, "error"));
+                    logger.warn("Event source {} failed for {}: {}", source.getName(), query, ex.toString());
+                    return Mono.empty();
+                })
+                .doOnCancel(() -> {
+                    if (finished.compareAndSet(false, true)) {
+                        sample.stop(timer(source, "timeout"));
+                        logger.warn("Event source {} missed the deadline for {}", source.getName(), query);
+                    }
+                });
+    }
+
+    private List<ExternalEventDto> merge(List<SourceResult> results) {
+        List<SourceResult> ordered = new ArrayList<>(results);
+        ordered.sort(Comparator.comparingInt(SourceResult::priority));
+
+        Set<String> seenIds = new HashSet<>();
+        Set<String> seenKeys = new HashSet<>();
+        List<ExternalEventDto> merged = new ArrayList<>();
+        for (SourceResult result : ordered) {
+            for (ExternalEventDto dto : result.events()) {
+                boolean newId = dto.getId() == null || seenIds.add(dto.getId());
+                boolean newKey = seenKeys.add(contentKey(dto));
+                if (newId && newKey) {
+                    merged.add(dto);
+                }
+            }
+        }
+        merged.sort(Comparator.comparing(ExternalEventDto::getEventDate,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+        return List.copyOf(merged);
+    }
+
+    private String contentKey(ExternalEventDto dto) {
+        String title = dto.getTitle() == null ? "" : dto.getTitle().trim().toLowerCase(Locale.ROOT);
+        return title + '|' + dto.getEventDate();
+    }
+
+    private Timer timer(EventSource source, String outcome) {
+        return Timer.builder("event.source.fetch")
+                .tag("source", source.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record SourceResult(int priority, List<ExternalEventDto> events) {
+    }
+}
@@ -1,155 +1,177 @@
 package com.smartevent.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartevent.common.RefreshingCache;
 import com.smartevent.config.TicketmasterProperties;
 import com.smartevent.dto.ExternalEventDto;
-import com.smartevent.entity.User;
-import com.smartevent.repository.UserRepository;
 
-import java.time.LocalDate;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Service
-public class ExternalEventService {
+public class ExternalEventService implements EventSource {
 
     private static final Logger logger = LoggerFactory.getLogger(ExternalEventService.class);
 
     private final WebClient webClient;
     private final TicketmasterProperties ticketmasterProperties;
     private final ObjectMapper objectMapper;
-    private final UserRepository userRepository;
+    private final TicketmasterCallGuard callGuard;
+    private final EventEnricher eventEnricher;
+    private final KeywordClassifier keywordClassifier;
+    private final RefreshingCache<EventQuery, List<ExternalEventDto>> queryCache;
 
     public ExternalEventService(@Qualifier("ticketmasterWebClient") WebClient webClient,
                                 TicketmasterProperties ticketmasterProperties,
                                 ObjectMapper objectMapper,
-                                UserRepository userRepository) {
+                                TicketmasterCallGuard callGuard,
+                                EventEnricher eventEnricher,
+                                KeywordClassifier keywordClassifier,
+                                MeterRegistry meterRegistry) {
         this.webClient = webClient;
         this.ticketmasterProperties = ticketmasterProperties;
         this.objectMapper = objectMapper;
-        this.userRepository = userRepository;
-    }
+        this.callGuard = callGuard;
+        this.eventEnricher = eventEnricher;
+        this.keywordClassifier = keywordClassifier;
+
+        TicketmasterProperties.Cache cacheProperties = ticketmasterProperties.getCache();
+        this.queryCache = new RefreshingCache<>(
+                cacheProperties.getTtlMs(),
+                cacheProperties.getFailureBackoffMs(),
+                cacheProperties.getMaxEntries());
+        registerCacheMetrics(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return "ticketmaster";
+    }
+
+    @Override
+    public Mono<List<ExternalEventDto>> fetchEvents(EventQuery query) {
+        return Mono.fromFuture(() -> queryCache.get(query, () -> fetchRemote(query).toFuture()))
+                .onErrorResume(ex -> {
+                    // Expected while Ticketmaster is degraded; the cache already served any stale data.
+                    logger.warn("Ticketmaster fetch failed for {}: {}", query, ex.toString());
+                    return Mono.just(List.of());
+                });
+    }
+
+    /**
+     * Fetches the first page, then fans out over the remaining pages with bounded concurrency
+     * until enough relevant events are collected, the last page is reached or the time budget
+     * runs out. Later pages are best effort; only a failed first page fails the query.
+     */
+    private Mono<List<ExternalEventDto>> fetchRemote(EventQuery key) {
+        TicketmasterProperties.Fetch fetch = ticketmasterProperties.getFetch();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(fetch.getTimeBudgetMs());
+        AtomicInteger totalFetched = new AtomicInteger();
+
+        return fetchPage(key, 0)
+                .timeout(Duration.ofMillis(fetch.getTimeBudgetMs()))
+                .flatMap(first -> {
+                    int pages = Math.min(fetch.getMaxPages(), Math.max(first.totalPages(), 1));
+                    Flux<TicketmasterEventParser.ParseResult> remaining = Flux.range(1, pages - 1)
+                            .flatMap(page -> fetchPage(key, page)
+                                    .onErrorResume(ex -> {
+                                        logger.warn("Skipping Ticketmaster page {}: {}", page, ex.toString());
+                                        return Mono.empty();
+                                    }), fetch.getConcurrency())
+                            .take(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+
+                    return Flux.concat(Mono.just(first), remaining)
+                            .doOnNext(page -> totalFetched.addAndGet(page.totalFetched()))
+                            .flatMapIterable(TicketmasterEventParser.ParseResult::events)
+                            .filter(dto -> dto.getId() != null)
+                            .distinct(ExternalEventDto::getId)
+                            .take(fetch.getTargetEvents())
+                            .collectList();
+                })
+                .map(events -> enrich(events, totalFetched.get()))
+                .defaultIfEmpty(List.of());
+    }
+
+    private Mono<TicketmasterEventParser.ParseResult> fetchPage(EventQuery key, int page) {
+        TicketmasterProperties.Fetch fetch = ticketmasterProperties.getFetch();
+        return callGuard.execute(() -> DataBufferUtils.join(webClient.get()
+                        .uri(uriBuilder -> {
+                            var builder = uriBuilder
+                                    .path("/events.json")
+                                    .queryParam("apikey", ticketmasterProperties.getApiKey())
+                                    .queryParam("size", fetch.getPageSize())
+                                    .queryParam("page", page)
+                                    .queryParam("sort", "date,asc");
+
+                            if (key.countryCode() != null) {
+                                builder.queryParam("countryCode", key.countryCode());
+                            }
+
+                            if (key.keyword() != null) {
+                                builder.queryParam("keyword", key.keyword());
+                            }
+
+                            var uri = builder.build();
+                            logger.info("Ticketmaster events URL: {}", uri);
+                            return uri;
+                        })
+                        .accept(MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .bodyToFlux(DataBuffer.class), fetch.getMaxResponseBytes())
+                .map(this::parseEvents)
+                .defaultIfEmpty(TicketmasterEventParser.ParseResult.empty()));
+    }
+
+    private List<ExternalEventDto> enrich(List<ExternalEventDto> events, int totalFetched) {
+        if (events.isEmpty()) {
+            logger.info("Ticketmaster events returned: 0");
+            return List.of();
+        }
 
-    public List<ExternalEventDto> fetchUpcomingEvents() {
-        return fetchAndFilterEvents(null);
-    }
+        List<ExternalEventDto> results = new ArrayList<>(events);
+        results.forEach(eventEnricher::enrich);
+        // Pages complete out of order; restore the upstream date ordering.
+        results.sort(Comparator.comparing(ExternalEventDto::getEventDate,
+                Comparator.nullsLast(Comparator.naturalOrder())));
 
-    public List<ExternalEventDto> fetchTrendingEvents(String keyword) {
-        return fetchAndFilterEvents(keyword);
+        logger.info("Ticketmaster events fetched: {}", totalFetched);
+        logger.info("Ticketmaster events after filtering: {}", results.size());
+        logger.info("Ticketmaster events returned: {}", results.size());
+        return List.copyOf(results);
     }
 
-    private List<ExternalEventDto> fetchAndFilterEvents(String keyword) {
-        try {
-            String response = webClient.get()
-                    .uri(uriBuilder -> {
-                        var builder = uriBuilder
-                                .path("/events.json")
-                                .queryParam("apikey", ticketmasterProperties.getApiKey())
-                                .queryParam("size", 20)
-                                .queryParam("sort", "date,asc");
-
-                        String countryCode = resolveUserCountryCode();
-                        if (countryCode != null) {
-                            builder.queryParam("countryCode", countryCode);
-                        }
-
-                        if (keyword != null && !keyword.isBlank()) {
-                            builder.queryParam("keyword", keyword);
-                        }
-
-                        var uri = builder.build();
-                        logger.info("Ticketmaster events URL: {}", uri);
-                        return uri;
-                    })
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            if (response == null || response.isBlank()) {
-                logger.info("Ticketmaster events returned: 0");
-                return List.of();
-            }
-
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode eventsNode = root.path("_embedded").path("events");
-            if (!eventsNode.isArray()) {
-                logger.info("Ticketmaster events returned: 0");
-                return List.of();
-            }
-
-            List<ExternalEventDto> results = new ArrayList<>();
-            int totalFetched = eventsNode.size();
-            int totalKept = 0;
-            for (JsonNode eventNode : eventsNode) {
-                Map<String, Object> eventMap = objectMapper.convertValue(eventNode, Map.class);
-                if (!isRelevantEvent(eventMap)) {
-                    continue;
-                }
-                totalKept++;
-
-                ExternalEventDto dto = new ExternalEventDto();
-                dto.setId(textOrNull(eventNode.path("id")));
-                String title = textOrNull(eventNode.path("name"));
-                dto.setTitle(title);
-
-                String eventDateText = textOrNull(eventNode.path("dates").path("start").path("localDate"));
-                dto.setEventDate(parseLocalDate(eventDateText));
-
-                String category = determineCategoryFromTitle(title);
-                dto.setCategory(category);
-                dto.setLocation(textOrNull(eventNode.path("_embedded").path("venues").path(0)
-                        .path("city").path("name")));
-
-                dto.setPopularityScore(randomBetween(50, 100));
-                applyImpactScores(dto, title);
-                dto.setTags(splitCategoryTags(category));
-
-                results.add(dto);
-            }
-
-            logger.info("Ticketmaster events fetched: {}", totalFetched);
-            logger.info("Ticketmaster events after filtering: {}", totalKept);
-
-            if (results.isEmpty()) {
-                return List.of();
-            }
-
-            logger.info("Ticketmaster events returned: {}", results.size());
-            return results;
-        } catch (Exception ex) {
-            logger.error("Failed to fetch external events from Ticketmaster", ex);
-            return List.of();
+    private TicketmasterEventParser.ParseResult parseEvents(DataBuffer body) {
+        try (InputStream input = body.asInputStream(true);
+             JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            return TicketmasterEventParser.parse(parser, this::isRelevantEvent);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Malformed Ticketmaster response", ex);
         }
     }
 
-    private boolean isRelevantEvent(Map<String, Object> eventMap) {
-        if (eventMap == null || eventMap.isEmpty()) {
-            return false;
-        }
-
-        List<Object> classifications = asList(eventMap.get("classifications"));
-        if (classifications.isEmpty()) {
-            return false;
-        }
-
-        Map<String, Object> firstClassification = asMap(classifications.get(0));
-        Map<String, Object> segment = asMap(firstClassification.get("segment"));
-        String segmentName = asString(segment.get("name"));
+    private boolean isRelevantEvent(String segmentName, String title) {
         if (segmentName == null) {
             return false;
         }
@@ -166,196 +188,26 @@ public class ExternalEventService {
             return false;
         }
 
-        String title = asString(eventMap.get("name"));
-        if (title == null) {
-            return false;
-        }
-
-        String text = title.toLowerCase();
-        return containsAny(text,
-                "developer", "tech", "technology", "coding",
-                "programming", "hackathon", "bootcamp", "ai",
-                "data", "cloud computing", "software engineering");
+        return keywordClassifier.isRelevant(title);
     }
 
-    private Integer randomBetween(int minInclusive, int maxInclusive) {
-        return ThreadLocalRandom.current().nextInt(minInclusive, maxInclusive + 1);
-    }
-
-    private void applyImpactScores(ExternalEventDto dto, String title) {
-        String normalizedTitle = normalize(title);
-        if (containsKeyword(normalizedTitle, "hackathon")) {
-            dto.setCodingImpactScore(randomBetween(90, 100));
-            dto.setCommunicationImpactScore(randomBetween(60, 75));
-            return;
-        }
-        if (containsKeyword(normalizedTitle, "bootcamp")) {
-            dto.setCodingImpactScore(randomBetween(80, 95));
-            dto.setCommunicationImpactScore(randomBetween(60, 75));
-            return;
-        }
-        if (containsKeyword(normalizedTitle, "summit")) {
-            dto.setCodingImpactScore(randomBetween(60, 75));
-            dto.setCommunicationImpactScore(randomBetween(80, 95));
-            return;
-        }
-        if (containsKeyword(normalizedTitle, "workshop")) {
-            dto.setCodingImpactScore(randomBetween(70, 85));
-            dto.setCommunicationImpactScore(randomBetween(70, 85));
-            return;
-        }
-        dto.setCodingImpactScore(randomBetween(60, 75));
-        dto.setCommunicationImpactScore(randomBetween(60, 75));
+    private void registerCacheMetrics(MeterRegistry meterRegistry) {
+        registerCacheCounter(meterRegistry, "hit", RefreshingCache::hitCount);
+        registerCacheCounter(meterRegistry, "stale", RefreshingCache::staleHitCount);
+        registerCacheCounter(meterRegistry, "miss", RefreshingCache::missCount);
+        registerCacheCounter(meterRegistry, "coalesced", RefreshingCache::coalescedCount);
+        FunctionCounter.builder("ticketmaster.cache.load.failures", queryCache, cache -> cache.loadFailureCount())
+                .description("Ticketmaster loads that failed; stale results were served when available")
+                .register(meterRegistry);
+        Gauge.builder("ticketmaster.cache.size", queryCache, RefreshingCache::size)
+                .register(meterRegistry);
     }
 
-    private String determineCategoryFromTitle(String title) {
-
-        if (title == null || title.isBlank()) {
-            return "OTHER";
-        }
-
-        String text = title.toLowerCase();
-
-        // 🔥 Technology related
-        if (containsAny(text,
-                "tech", "technology", "developer", "coding",
-                "hackathon", "programming", "ai", "data",
-                "cloud", "backend", "frontend", "software")) {
-            return "TECHNOLOGY";
-        }
-
-        // 🔥 Business related
-        if (containsAny(text,
-                "business", "startup", "entrepreneur",
-                "leadership", "management", "finance")) {
-            return "BUSINESS";
-        }
-
-        // 🔥 Marketing related
-        if (containsAny(text,
-                "marketing", "branding", "sales",
-                "growth", "digital marketing")) {
-            return "MARKETING";
-        }
-
-        // 🔥 Education related
-        if (containsAny(text,
-                "bootcamp", "workshop", "training",
-                "course", "learning", "research")) {
-            return "EDUCATION";
-        }
-
-        // 🔥 Design related
-        if (containsAny(text,
-                "design", "ux", "ui", "creative")) {
-            return "DESIGN";
-        }
-
-        return "OTHER";
-    }
-
-    private boolean containsKeyword(String text, String keyword) {
-        return text != null && !text.isBlank() && text.contains(keyword);
-    }
-
-    private boolean containsAny(String text, String... keywords) {
-        if (text == null || text.isBlank()) {
-            return false;
-        }
-        for (String keyword : keywords) {
-            if (text.contains(keyword)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private String normalize(String value) {
-        if (value == null) {
-            return "";
-        }
-        return value.toLowerCase();
-    }
-
-    private LocalDate parseLocalDate(String value) {
-        if (value == null || value.isBlank()) {
-            return null;
-        }
-        try {
-            return LocalDate.parse(value);
-        } catch (Exception ex) {
-            return null;
-        }
-    }
-
-    private String textOrNull(JsonNode node) {
-        if (node == null || node.isMissingNode() || node.isNull()) {
-            return null;
-        }
-        String value = node.asText();
-        return value == null || value.isBlank() ? null : value;
-    }
-
-    private Set<String> splitCategoryTags(String category) {
-        if (category == null || category.isBlank()) {
-            return Collections.emptySet();
-        }
-        Set<String> tags = new HashSet<>();
-        for (String part : category.split("\\s+")) {
-            String trimmed = part.trim();
-            if (!trimmed.isBlank()) {
-                tags.add(trimmed);
-            }
-        }
-        return tags;
-    }
-
-    private Map<String, Object> asMap(Object value) {
-        if (value instanceof Map<?, ?> mapValue) {
-            Map<String, Object> result = new java.util.HashMap<>();
-            for (Map.Entry<?, ?> entry : mapValue.entrySet()) {
-                if (entry.getKey() instanceof String key) {
-                    result.put(key, entry.getValue());
-                }
-            }
-            return result;
-        }
-        return Collections.emptyMap();
-    }
-
-    private List<Object> asList(Object value) {
-        if (value instanceof List<?> listValue) {
-            return new ArrayList<>(listValue);
-        }
-        return Collections.emptyList();
-    }
-
-    private String asString(Object value) {
-        if (value == null) {
-            return null;
-        }
-        String text = String.valueOf(value).trim();
-        return text.isBlank() ? null : text;
-    }
-
-    private String resolveUserCountryCode() {
-        try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || !authentication.isAuthenticated()) {
-                return null;
-            }
-            String email = authentication.getName();
-            if (email == null || email.isBlank()) {
-                return null;
-            }
-            return userRepository.findByEmail(email)
-                    .map(User::getLocation)
-                    .map(String::trim)
-                    .filter(value -> !value.isBlank())
-                    .orElse(null);
-        } catch (Exception ex) {
-            logger.warn("Failed to resolve user location for Ticketmaster countryCode", ex);
-            return null;
-        }
+    /** Registered against the cache itself: Micrometer holds its state object only weakly. */
+    private void registerCacheCounter(MeterRegistry meterRegistry, String result,
+                                      ToDoubleFunction<RefreshingCache<?, ?>> count) {
+        FunctionCounter.builder("ticketmaster.cache.requests", queryCache, count)
+                .tag("result", result)
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,113 @@
+package com.smartevent.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartevent.config.EventSourceProperties;
+import com.smartevent.dto.ExternalEventDto;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Events from a local JSON array or newline-delimited JSON file of {@link ExternalEventDto}s.
+ * The file is parsed and enriched once, and re-read only when its size or modification time changes.
+ */
+@Component
+public class FileEventSource implements EventSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileEventSource.class);
+
+    private final EventSourceProperties eventSourceProperties;
+    private final ObjectMapper objectMapper;
+    private final EventEnricher eventEnricher;
+    private volatile Snapshot snapshot = new Snapshot(null, -1, -1, List.of());
+
+    public FileEventSource(EventSourceProperties eventSourceProperties,
+                           ObjectMapper objectMapper,
+                           EventEnricher eventEnricher) {
+        this.eventSourceProperties = eventSourceProperties;
+        this.objectMapper = objectMapper;
+        this.eventEnricher = eventEnricher;
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public Mono<List<ExternalEventDto>> fetchEvents(EventQuery query) {
+        String configuredPath = eventSourceProperties.getFile().getPath();
+        if (configuredPath == null || configuredPath.isBlank()) {
+            return Mono.just(List.of());
+        }
+        return Mono.fromCallable(() -> load(Path.of(configuredPath)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(events -> filter(events, query));
+    }
+
+    private List<ExternalEventDto> load(Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long modified = attributes.lastModifiedTime().toMillis();
+        Snapshot current = snapshot;
+        if (path.equals(current.path()) && current.modified() == modified && current.size() == attributes.size()) {
+            return current.events();
+        }
+
+        List<ExternalEventDto> events = new ArrayList<>();
+        // readValues iterates either the elements of a top-level array or a stream of root-level objects.
+        try (MappingIterator<ExternalEventDto> iterator =
+                     objectMapper.readerFor(ExternalEventDto.class).readValues(path.toFile())) {
+            while (iterator.hasNext()) {
+                ExternalEventDto dto = iterator.next();
+                if (dto.getId() != null && dto.getTitle() != null) {
+                    events.add(eventEnricher.enrich(dto));
+                }
+            }
+        }
+        snapshot = new Snapshot(path, modified, attributes.size(), List.copyOf(events));
+        logger.info("Loaded {} events from {}", events.size(), path);
+        return snapshot.events();
+    }
+
+    private List<ExternalEventDto> filter(List<ExternalEventDto> events, EventQuery query) {
+        LocalDate today = LocalDate.now();
+        String[] keywordTerms = query.keyword() == null ? new String[0] : query.keyword().split("\\s+");
+        List<ExternalEventDto> matches = new ArrayList<>();
+        for (ExternalEventDto dto : events) {
+            if (dto.getEventDate() != null && dto.getEventDate().isBefore(today)) {
+                continue;
+            }
+            if (query.countryCode() != null && !query.countryCode().equalsIgnoreCase(dto.getCountryCode())) {
+                continue;
+            }
+            if (!containsAll(dto.getTitle().toLowerCase(Locale.ROOT), keywordTerms)) {
+                continue;
+            }
+            matches.add(dto);
+        }
+        return matches;
+    }
+
+    private boolean containsAll(String text, String[] terms) {
+        for (String term : terms) {
+            if (!text.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Snapshot(Path path, long modified, long size, List<ExternalEventDto> events) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.smartevent.service;
+
+import com.smartevent.common.KeywordAutomaton;
+import com.smartevent.config.EnrichmentProperties;
+import com.smartevent.config.KeywordProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Classifies an event title in a single pass: Ticketmaster relevance, the strict tech filter,
+ * category, enrichment impact rule and explanation reasons.
+ *
+ * <p>All dictionaries from {@code app.keywords} and the enrichment rule keywords are compiled
+ * into one {@link KeywordAutomaton}, each dictionary owning one slot of the match mask.</p>
+ */
+@Component
+public class KeywordClassifier {
+
+    public static final String DEFAULT_CATEGORY = "OTHER";
+
+    private static final int RELEVANT_SLOT = 0;
+    private static final int STRICT_TECH_SLOT = 1;
+
+    public record Classification(boolean relevant,
+                                 boolean strictTech,
+                                 String category,
+                                 EnrichmentProperties.Rule impactRule,
+                                 List<String> reasons) {
+    }
+
+    private final KeywordAutomaton automaton;
+    private final String[] categories;
+    private final int categoryBase;
+    private final List<EnrichmentProperties.Rule> rules;
+    private final int ruleBase;
+    private final String[] reasons;
+    private final String[] reasonCodes;
+    private final int reasonBase;
+
+    public KeywordClassifier(KeywordProperties keywordProperties, EnrichmentProperties enrichmentProperties) {
+        KeywordAutomaton.Builder builder = KeywordAutomaton.builder()
+                .addAll(keywordProperties.getRelevant(), RELEVANT_SLOT)
+                .addAll(keywordProperties.getStrictTech(), STRICT_TECH_SLOT);
+
+        int slot = STRICT_TECH_SLOT + 1;
+        categoryBase = slot;
+        Map<String, List<String>> configuredCategories = keywordProperties.categoriesOrDefaults();
+        categories = new String[configuredCategories.size()];
+        for (Map.Entry<String, List<String>> category : configuredCategories.entrySet()) {
+            categories[slot - categoryBase] = category.getKey().trim().toUpperCase();
+            builder.addAll(category.getValue(), checkSlot(slot++));
+        }
+
+        ruleBase = slot;
+        rules = List.copyOf(enrichmentProperties.getRules());
+        for (EnrichmentProperties.Rule rule : rules) {
+            builder.add(rule.getKeyword(), checkSlot(slot++));
+        }
+
+        reasonBase = slot;
+        reasons = new String[keywordProperties.getExplanations().size()];
+        reasonCodes = new String[reasons.length];
+        for (KeywordProperties.Explanation explanation : keywordProperties.getExplanations()) {
+            reasons[slot - reasonBase] = explanation.getReason();
+            reasonCodes[slot - reasonBase] = reasonCode(explanation);
+            builder.addAll(explanation.getKeywords(), checkSlot(slot++));
+        }
+
+        automaton = builder.build();
+    }
+
+    public Classification classify(String title) {
+        long mask = automaton.match(title);
+        return new Classification(
+                (mask & (1L << RELEVANT_SLOT)) != 0,
+                (mask & (1L << STRICT_TECH_SLOT)) != 0,
+                firstCategory(mask),
+                firstRule(mask),
+                matchedReasons(mask));
+    }
+
+    /** Codes of the explanation reasons matched by {@code title}, in configuration order. */
+    public List<String> reasonCodes(String title) {
+        return matched(automaton.match(title), reasonCodes);
+    }
+
+    public boolean isRelevant(String title) {
+        return (automaton.match(title) & (1L << RELEVANT_SLOT)) != 0;
+    }
+
+    public boolean isStrictTech(String title) {
+        return (automaton.match(title) & (1L << STRICT_TECH_SLOT)) != 0;
+    }
+
+    private String firstCategory(long mask) {
+        for (int i = 0; i < categories.length; i++) {
+            if ((mask & (1L << (categoryBase + i))) != 0) {
+                return categories[i];
+            }
+        }
+        return DEFAULT_CATEGORY;
+    }
+
+    private EnrichmentProperties.Rule firstRule(long mask) {
+        for (int i = 0; i < rules.size(); i++) {
+            if ((mask & (1L << (ruleBase + i))) != 0) {
+                return rules.get(i);
+            }
+        }
+        return null;
+    }
+
+    private List<String> matchedReasons(long mask) {
+        return matched(mask, reasons);
+    }
+
+    private List<String> matched(long mask, String[] values) {
+        List<String> matched = new ArrayList<>(0);
+        for (int i = 0; i < values.length; i++) {
+            if ((mask & (1L << (reasonBase + i))) != 0) {
+                matched.add(values[i]);
+            }
+        }
+        return matched;
+    }
+
+    private static String reasonCode(KeywordProperties.Explanation explanation) {
+        if (explanation.getCode() != null && !explanation.getCode().isBlank()) {
+            return explanation.getCode().trim();
+        }
+        String reason = explanation.getReason() == null ? "" : explanation.getReason();
+        return reason.trim().toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]+", "_");
+    }
+
+    private static int checkSlot(int slot) {
+        if (slot >= KeywordAutomaton.MAX_SLOTS) {
+            throw new IllegalStateException("Too many keyword dictionaries; at most "
+                    + KeywordAutomaton.MAX_SLOTS + " categories, enrichment rules and explanations combined");
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,43 @@
+package com.smartevent.service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A user's precomputed ranking: the best events in page order, computed against
+ * {@code catalogVersion} at {@code computedAt}. {@code complete} is set when every candidate is
+ * included, i.e. the ranking was not cut off at the materialized size.
+ */
+public record MaterializedRecommendations(long catalogVersion,
+                                          Instant computedAt,
+                                          List<RecommendationScoringEngine.ScoredEvent> events,
+                                          boolean complete) {
+
+    /**
+     * The page after {@code after}, or {@code null} if it reaches past the stored events of an
+     * incomplete ranking and has to be scored on demand.
+     */
+    public RecommendationScoringEngine.RankedPage page(int limit, RecommendationCursor after) {
+        int from = 0;
+        if (after != null) {
+            while (from < events.size()) {
+                RecommendationScoringEngine.ScoredEvent scored = events.get(from);
+                if (after.precedes(scored.finalScore(), scored.event().getId())) {
+                    break;
+                }
+                from++;
+            }
+        }
+        int remaining = events.size() - from;
+        if (remaining <= limit && !complete) {
+            return null;
+        }
+        List<RecommendationScoringEngine.ScoredEvent> page = events.subList(from, from + Math.min(limit, remaining));
+        RecommendationCursor next = null;
+        if (remaining > limit) {
+            RecommendationScoringEngine.ScoredEvent last = page.get(page.size() - 1);
+            next = new RecommendationCursor(last.finalScore(), last.event().getId());
+        }
+        return new RecommendationScoringEngine.RankedPage(List.copyOf(page), next);
+    }
+}
@@ -0,0 +1,188 @@
+package com.smartevent.service;
+
+import com.smartevent.common.BaseEntity;
+import com.smartevent.config.RecommendationProperties;
+import com.smartevent.entity.Event;
+import com.smartevent.entity.EventCategory;
+import com.smartevent.entity.EventMode;
+import com.smartevent.entity.User;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Candidate events for a user's recommendations: upcoming strict-tech catalog events in the user's
+ * location, or a curated fallback set when the catalog has none. With the candidate index enabled
+ * only events matching an interest plus the most popular ones are returned. Must run inside a transaction.
+ */
+@Component
+public class RecommendationCandidateProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecommendationCandidateProvider.class);
+
+    private static final List<String> FALLBACK_TAGS = List.of("ai", "engineering", "development");
+
+    private final EventCatalogService eventCatalogService;
+    private final KeywordClassifier keywordClassifier;
+    private final CatalogTagIndex catalogTagIndex;
+    private final TagCatalog tagCatalog;
+    private final RecommendationProperties properties;
+
+    /** Tag bits shared by the fallback events, interned once at startup so requests never write tags. */
+    private volatile long[] fallbackTagBits;
+
+    public RecommendationCandidateProvider(EventCatalogService eventCatalogService,
+                                           KeywordClassifier keywordClassifier,
+                                           CatalogTagIndex catalogTagIndex,
+                                           TagCatalog tagCatalog,
+                                           RecommendationProperties properties) {
+        this.eventCatalogService = eventCatalogService;
+        this.keywordClassifier = keywordClassifier;
+        this.catalogTagIndex = catalogTagIndex;
+        this.tagCatalog = tagCatalog;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void encodeFallbackTags() {
+        fallbackTagBits = tagCatalog.encode(FALLBACK_TAGS);
+    }
+
+    public CandidateSet candidatesFor(User user) {
+        CandidateSet candidates;
+        if (properties.isCandidateIndexEnabled()) {
+            candidates = catalogTagIndex.candidates(user.getLocation(), tagCatalog.interestBits(user),
+                    properties.getPopularityBackfill());
+        } else {
+            candidates = CandidateSet.of(eventCatalogService.findUpcomingEvents(user.getLocation()).stream()
+                    .filter(event -> keywordClassifier.isStrictTech(event.getTitle()))
+                    .toList());
+        }
+
+        if (candidates.isEmpty()) {
+            candidates = CandidateSet.of(injectFallbackTechEvents(user));
+        }
+        return candidates;
+    }
+
+    private List<Event> injectFallbackTechEvents(User user) {
+        double codingPreference = user == null || user.getCodingPreferenceWeight() == null
+                ? 0.5
+                : user.getCodingPreferenceWeight();
+        double communicationPreference = user == null || user.getCommunicationPreferenceWeight() == null
+                ? 0.5
+                : user.getCommunicationPreferenceWeight();
+
+        List<Event> events = new ArrayList<>();
+
+        if (codingPreference > communicationPreference) {
+            events.add(buildFallbackEvent(
+                    "Global Hackathon Series",
+                    EventCategory.TECHNOLOGY,
+                    95,
+                    75,
+                    90
+            ));
+            events.add(buildFallbackEvent(
+                    "AI Developer Bootcamp 2026",
+                    EventCategory.TECHNOLOGY,
+                    92,
+                    70,
+                    88
+            ));
+            events.add(buildFallbackEvent(
+                    "Full Stack Engineering Summit",
+                    EventCategory.TECHNOLOGY,
+                    85,
+                    80,
+                    82
+            ));
+            return events;
+        }
+
+        if (communicationPreference > codingPreference) {
+            events.add(buildFallbackEvent(
+                    "Full Stack Engineering Summit",
+                    EventCategory.TECHNOLOGY,
+                    85,
+                    80,
+                    82
+            ));
+            events.add(buildFallbackEvent(
+                    "AI Developer Bootcamp 2026",
+                    EventCategory.TECHNOLOGY,
+                    92,
+                    70,
+                    88
+            ));
+            events.add(buildFallbackEvent(
+                    "Global Hackathon Series",
+                    EventCategory.TECHNOLOGY,
+                    95,
+                    75,
+                    90
+            ));
+            return events;
+        }
+
+        events.add(buildFallbackEvent(
+                "AI Developer Bootcamp 2026",
+                EventCategory.TECHNOLOGY,
+                92,
+                70,
+                88
+        ));
+        events.add(buildFallbackEvent(
+                "Full Stack Engineering Summit",
+                EventCategory.TECHNOLOGY,
+                85,
+                80,
+                82
+        ));
+        events.add(buildFallbackEvent(
+                "Global Hackathon Series",
+                EventCategory.TECHNOLOGY,
+                95,
+                75,
+                90
+        ));
+        return events;
+    }
+
+    private Event buildFallbackEvent(String title,
+                                     EventCategory category,
+                                     int codingImpactScore,
+                                     int communicationImpactScore,
+                                     int popularityScore) {
+        Event event = new Event();
+        UUID fallbackId = UUID.randomUUID();
+        try {
+            Field idField = BaseEntity.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(event, fallbackId);
+        } catch (ReflectiveOperationException ex) {
+            logger.warn("Failed to set fallback event id", ex);
+        }
+        event.setTitle(title);
+        event.setDescription(title);
+        event.setCategory(category);
+        event.setLocation("Online");
+        event.setMode(EventMode.ONLINE);
+        event.setEventDate(LocalDate.now().plusWeeks(2));
+        event.setCodingImpactScore(codingImpactScore);
+        event.setCommunicationImpactScore(communicationImpactScore);
+        event.setPopularityScore(popularityScore);
+        event.setTags(new HashSet<>(FALLBACK_TAGS));
+        long[] tagBits = fallbackTagBits;
+        event.setTagBits(tagBits != null ? tagBits : tagCatalog.lookup(FALLBACK_TAGS));
+        return event;
+    }
+}
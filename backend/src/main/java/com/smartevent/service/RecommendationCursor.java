@@ -0,0 +1,50 @@
+package com.smartevent.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Position after the last recommendation of a page. Results are ordered by score descending and
+ * then by event id, so {@code (score, id)} identifies the boundary exactly; the score is encoded
+ * bit-for-bit so no rounding can skip or repeat an event.
+ */
+public record RecommendationCursor(double score, UUID id) {
+
+    public String encode() {
+        String raw = Long.toHexString(Double.doubleToLongBits(score)) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RecommendationCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            double score = Double.longBitsToDouble(Long.parseUnsignedLong(raw.substring(0, separator), 16));
+            return new RecommendationCursor(score, UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    /** Whether a result with this score and id comes after the cursor in page order. */
+    public boolean precedes(double otherScore, UUID otherId) {
+        int byScore = Double.compare(otherScore, score);
+        if (byScore != 0) {
+            return byScore < 0;
+        }
+        return compareIds(otherId, id) > 0;
+    }
+
+    static int compareIds(UUID a, UUID b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : 1) : -1;
+        }
+        return a.compareTo(b);
+    }
+}
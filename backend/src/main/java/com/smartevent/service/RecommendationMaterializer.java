@@ -0,0 +1,209 @@
+package com.smartevent.service;
+
+import com.smartevent.config.RecommendationProperties;
+import com.smartevent.entity.User;
+import com.smartevent.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps each active user's ranked recommendations precomputed, so a request is a map lookup.
+ *
+ * <p>A list is computed inline on a user's first request and then refreshed in the background
+ * whenever the catalog version moves past it. {@link #invalidate} drops a list whose inputs
+ * changed, e.g. after a preference update. Background refreshes run on a fixed number of threads
+ * and are taken most-recently-active user first; users inactive for longer than
+ * {@code app.recommendations.active-window-ms} are dropped on the next catalog update.</p>
+ */
+@Component
+public class RecommendationMaterializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecommendationMaterializer.class);
+
+    private final UserRepository userRepository;
+    private final RecommendationCandidateProvider candidateProvider;
+    private final RecommendationScoringEngine scoringEngine;
+    private final CatalogVersionTracker versionTracker;
+    private final RecommendationProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<UUID, MaterializedRecommendations> lists = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> lastActiveMillis = new ConcurrentHashMap<>();
+    /** Bumped on every invalidation; a computation started under an older stamp is not stored. */
+    private final Map<UUID, Long> inputStamps = new ConcurrentHashMap<>();
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public RecommendationMaterializer(UserRepository userRepository,
+                                      RecommendationCandidateProvider candidateProvider,
+                                      RecommendationScoringEngine scoringEngine,
+                                      CatalogVersionTracker versionTracker,
+                                      RecommendationProperties properties,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.candidateProvider = candidateProvider;
+        this.scoringEngine = scoringEngine;
+        this.versionTracker = versionTracker;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+
+        int parallelism = Math.max(1, properties.getRefreshParallelism());
+        this.refreshExecutor = new ThreadPoolExecutor(parallelism, parallelism, 0, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), Thread.ofVirtual().name("recommendation-refresh-", 0).factory());
+
+        Gauge.builder("recommendation.materialized.users", lists, Map::size).register(meterRegistry);
+        Gauge.builder("recommendation.refresh.queued", refreshExecutor, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * The user's materialized ranking, computed inline if there is none. A list older than the
+     * current catalog version is still returned, and a background refresh is queued for it.
+     * Must run inside a transaction when the list has to be computed.
+     */
+    public MaterializedRecommendations get(User user) {
+        MaterializedRecommendations materialized = lookup(user.getId());
+        return materialized != null ? materialized : compute(user, inputStamps.getOrDefault(user.getId(), 0L));
+    }
+
+    /**
+     * Like {@link #get}, but without computing a missing list, so no user row is needed:
+     * {@code null} if the user has no list.
+     */
+    public MaterializedRecommendations lookup(UUID userId) {
+        lastActiveMillis.put(userId, System.currentTimeMillis());
+
+        MaterializedRecommendations materialized = lists.get(userId);
+        if (materialized != null && materialized.catalogVersion() < versionTracker.current()) {
+            scheduleRefresh(userId);
+        }
+        return materialized;
+    }
+
+    /** Drops the user's list; it is recomputed on the next request or right away if the user is active. */
+    public void invalidate(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        inputStamps.merge(userId, 1L, Long::sum);
+        lists.remove(userId);
+        if (lastActiveMillis.containsKey(userId)) {
+            scheduleRefresh(userId);
+        }
+    }
+
+    @EventListener
+    @Order(CatalogTagIndex.LISTENER_ORDER + 1)
+    public void onCatalogUpdated(CatalogUpdatedEvent event) {
+        long activeSince = System.currentTimeMillis() - properties.getActiveWindowMs();
+        lastActiveMillis.entrySet().removeIf(entry -> {
+            if (entry.getValue() >= activeSince) {
+                return false;
+            }
+            lists.remove(entry.getKey());
+            return true;
+        });
+        lastActiveMillis.keySet().forEach(this::scheduleRefresh);
+        logger.info("Catalog version {}: queued refresh for {} active users",
+                event.delta().version(), lastActiveMillis.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void scheduleRefresh(UUID userId) {
+        if (!queued.add(userId)) {
+            return;
+        }
+        long lastActive = lastActiveMillis.getOrDefault(userId, 0L);
+        try {
+            refreshExecutor.execute(new RefreshTask(userId, lastActive));
+        } catch (RejectedExecutionException ex) {
+            // E.g. after shutdown. Unmark the user so later refreshes are not skipped, and keep lookups working.
+            queued.remove(userId);
+            logger.warn("Recommendation refresh for user {} rejected: {}", userId, ex.toString());
+        }
+    }
+
+    private void refresh(UUID userId) {
+        // Dequeue first, so a change that arrives while computing queues another refresh.
+        queued.remove(userId);
+        long stamp = inputStamps.getOrDefault(userId, 0L);
+        try {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    userRepository.findById(userId).ifPresent(user -> compute(user, stamp)));
+        } catch (RuntimeException ex) {
+            logger.warn("Failed to refresh recommendations for user {}: {}", userId, ex.toString());
+        }
+    }
+
+    private MaterializedRecommendations compute(User user, long stamp) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        // Read the version first: events ingested during the computation leave the list stale, not wrong.
+        long catalogVersion = versionTracker.current();
+        int size = Math.max(1, properties.getMaterializedSize());
+        List<RecommendationScoringEngine.ScoredEvent> ranked =
+                scoringEngine.evaluatePage(user, candidateProvider.candidatesFor(user), size + 1, null).events();
+        boolean complete = ranked.size() <= size;
+        MaterializedRecommendations materialized = new MaterializedRecommendations(catalogVersion, Instant.now(),
+                complete ? ranked : List.copyOf(ranked.subList(0, size)), complete);
+
+        lists.compute(user.getId(), (id, current) -> {
+            if (inputStamps.getOrDefault(id, 0L) != stamp) {
+                return current;
+            }
+            if (current != null && current.catalogVersion() > catalogVersion) {
+                return current;
+            }
+            return materialized;
+        });
+        sample.stop(meterRegistry.timer("recommendation.materialize"));
+        return materialized;
+    }
+
+    private final class RefreshTask implements Runnable, Comparable<RefreshTask> {
+
+        private final UUID userId;
+        private final long lastActive;
+
+        private RefreshTask(UUID userId, long lastActive) {
+            this.userId = userId;
+            this.lastActive = lastActive;
+        }
+
+        @Override
+        public void run() {
+            refresh(userId);
+        }
+
+        @Override
+        public int compareTo(RefreshTask other) {
+            return Long.compare(other.lastActive, lastActive);
+        }
+    }
+}
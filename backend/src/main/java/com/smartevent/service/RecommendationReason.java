@@ -0,0 +1,34 @@
+package com.smartevent.service;
+
+/**
+ * Fixed reasons a recommendation can carry, recorded as bits while scoring and rendered to text
+ * only for the events that are returned. The constant names are the reason codes sent to clients
+ * with {@code explain=codes}.
+ */
+public enum RecommendationReason {
+
+    INTEREST_MATCH("This event aligns with your interest in %s."),
+    CODING_FOCUS("Strong coding-focused event"),
+    NETWORKING("Strong communication/networking opportunity"),
+    CURATED("Curated tech event recommendation"),
+    POPULAR("Popular upcoming event"),
+    UPCOMING("Upcoming soon");
+
+    private final String text;
+
+    RecommendationReason(String text) {
+        this.text = text;
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public boolean isSet(int reasons) {
+        return (reasons & bit()) != 0;
+    }
+
+    String text() {
+        return text;
+    }
+}
@@ -1,30 +1,115 @@
 package com.smartevent.service;
 
+import static com.smartevent.service.RecommendationReason.CODING_FOCUS;
+import static com.smartevent.service.RecommendationReason.CURATED;
+import static com.smartevent.service.RecommendationReason.INTEREST_MATCH;
+import static com.smartevent.service.RecommendationReason.NETWORKING;
+import static com.smartevent.service.RecommendationReason.POPULAR;
+import static com.smartevent.service.RecommendationReason.UPCOMING;
+
+import com.smartevent.common.TagBits;
+import com.smartevent.common.TopKSelector;
+import com.smartevent.config.RecommendationProperties;
 import com.smartevent.entity.Event;
 import com.smartevent.entity.EventMode;
 import com.smartevent.entity.User;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntBinaryOperator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
 
 @Component
 public class RecommendationScoringEngine {
 
-    private static final double INTEREST_MATCH_WEIGHT = 25.0;
-    private static final double CODING_WEIGHT = 0.3;
-    private static final double COMMUNICATION_WEIGHT = 0.2;
-    private static final double POPULARITY_WEIGHT = 0.1;
-    private static final double SAME_LOCATION_BONUS = 20.0;
-    private static final double ONLINE_BONUS = 10.0;
+    static final double INTEREST_MATCH_WEIGHT = 25.0;
+    static final double CODING_WEIGHT = 0.3;
+    static final double COMMUNICATION_WEIGHT = 0.2;
+    static final double POPULARITY_WEIGHT = 0.1;
+    static final double SAME_LOCATION_BONUS = 20.0;
+    static final double ONLINE_BONUS = 10.0;
 
-    private static final Set<String> FALLBACK_TITLES = Set.of(
+    /** Score all columns in one kernel pass once candidates are at least 1/4 of them. */
+    private static final int DENSE_SCORING_RATIO = 4;
+    /** Smallest partition worth a fork/join task. */
+    private static final int MIN_GRAIN_SIZE = 8192;
+
+    private static final List<String> FALLBACK_TITLES = List.of(
             "ai developer bootcamp 2026",
             "full stack engineering summit",
             "global hackathon series"
     );
 
-    public RecommendationScoringEngine() {
+    private final KeywordClassifier keywordClassifier;
+    private final TagCatalog tagCatalog;
+    private final ScoringKernel scoringKernel;
+    private final ForkJoinPool scoringPool;
+    private final boolean parallelScoring;
+    private final int parallelThreshold;
+
+    public RecommendationScoringEngine(KeywordClassifier keywordClassifier,
+                                       TagCatalog tagCatalog,
+                                       RecommendationProperties properties,
+                                       @Qualifier("scoringPool") ForkJoinPool scoringPool) {
+        this.keywordClassifier = keywordClassifier;
+        this.tagCatalog = tagCatalog;
+        this.scoringKernel = ScoringKernel.select(properties.isVectorScoringEnabled());
+        this.scoringPool = scoringPool;
+        // A single-threaded pool would only add fork/join overhead.
+        this.parallelScoring = properties.isParallelScoringEnabled() && scoringPool.getParallelism() > 1;
+        this.parallelThreshold = Math.max(1, properties.getParallelScoringThreshold());
+    }
+
+    /**
+     * A user compiled once per request: interests as {@link TagBits}, clamped preference weights and
+     * the clock snapshot used for date boosts.
+     */
+    public record ScoringProfile(long[] interestBits,
+                                 boolean coldStart,
+                                 double codingPreference,
+                                 double communicationPreference,
+                                 String location,
+                                 LocalDate today) {
+    }
+
+    /**
+     * A scored event with its {@link RecommendationReason} bits and the interest tag that matched.
+     * Render the explanation with {@link #explain(ScoredEvent)} or {@link #reasonCodes(ScoredEvent)}.
+     */
+    public record ScoredEvent(Event event, double finalScore, int reasons, String matchedInterest) {
+    }
+
+    /** How explanations are returned to API clients. */
+    public enum ExplanationFormat {
+        TEXT, CODES;
+
+        public static ExplanationFormat parse(String value) {
+            if (value == null || value.isBlank()) {
+                return TEXT;
+            }
+            for (ExplanationFormat format : values()) {
+                if (format.name().equalsIgnoreCase(value.trim())) {
+                    return format;
+                }
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "explain must be 'text' or 'codes'");
+        }
+    }
+
+    public ScoringProfile profile(User user, LocalDate today) {
+        long[] interestBits = tagCatalog.interestBits(user);
+        return new ScoringProfile(
+                interestBits,
+                TagBits.isEmpty(interestBits) && TagBits.isEmpty(tagCatalog.skillBits(user)),
+                normalizePreference(user.getCodingPreferenceWeight()),
+                normalizePreference(user.getCommunicationPreferenceWeight()),
+                user.getLocation(),
+                today);
     }
 
     public ScoringResult evaluate(User user, Event event) {
@@ -33,82 +118,195 @@ public class RecommendationScoringEngine {
             return new ScoringResult(0.0, "Invalid recommendation data");
         }
 
-        Set<String> interests = safeSet(user.getInterests());
-        Set<String> skills = safeSet(user.getSkills());
+        ScoringProfile profile = profile(user, LocalDate.now());
+        int[] reasons = new int[1];
+        String[] matches = new String[1];
+        double score = score(profile, event, reasons, matches, 0);
+        return new ScoringResult(score, explain(new ScoredEvent(event, score, reasons[0], matches[0])));
+    }
+
+    /** One page of ranked events and the cursor for the next page, {@code null} on the last one. */
+    public record RankedPage(List<ScoredEvent> events, RecommendationCursor next) {
+    }
+
+    /**
+     * Scores every event against one compiled profile and returns the {@code k} best, highest
+     * score first. Interests match through the events' tag bits; see {@link TagCatalog}.
+     */
+    public List<ScoredEvent> evaluateAll(User user, Collection<Event> events, int k) {
+        return evaluatePage(user, events, k, null).events();
+    }
 
-        if (isColdStart(interests, skills)) {
-            return new ScoringResult(fallbackScore(event),
-                    fallbackExplanation(event));
+    /**
+     * Like {@link #evaluateAll}, but only considers events ranked after {@code after} (if given) and
+     * reports where the next page starts. Ranking is by score descending, then event id.
+     */
+    public RankedPage evaluatePage(User user, Collection<Event> events, int limit, RecommendationCursor after) {
+        if (events == null || events.isEmpty()) {
+            return new RankedPage(List.of(), null);
         }
+        return evaluatePage(user, CandidateSet.of(events), limit, after);
+    }
 
-        double score = 0.0;
+    /**
+     * Ranks a candidate set. Scores come from the {@link ScoringKernel} over the candidates' columns:
+     * one dense pass when candidates make up a large share of the columns, otherwise slot by slot.
+     * Candidate sets of at least {@code parallel-scoring-threshold} are split across the scoring
+     * pool; each partition keeps its own top-K heap and the heaps are merged, which yields exactly
+     * the sequential result. Reason bits and explanations are only derived for the returned events.
+     */
+    public RankedPage evaluatePage(User user, CandidateSet candidates, int limit, RecommendationCursor after) {
+        if (user == null || candidates == null || candidates.isEmpty() || limit <= 0) {
+            return new RankedPage(List.of(), null);
+        }
 
-        String matchedInterest = firstMatch(event.getTags(), interests);
+        ScoringProfile profile = profile(user, LocalDate.now());
+        ScoringColumns columns = candidates.columns();
+        ScoringColumns.Parameters parameters = new ScoringColumns.Parameters(
+                profile.coldStart(),
+                profile.codingPreference(),
+                profile.communicationPreference(),
+                columns.locationId(profile.location()),
+                profile.today().toEpochDay());
+        BitSet interestMatches = candidates.interestMatches() != null
+                ? candidates.interestMatches()
+                : matchInterests(profile, candidates);
+
+        int[] slots = candidates.selected().stream().toArray();
+        boolean dense = (long) slots.length * DENSE_SCORING_RATIO >= columns.size();
+        // One extra slot tells whether another page follows.
+        Ranking ranking = new Ranking(columns, parameters, interestMatches, slots, dense, limit + 1, after);
+        int[] ranked = parallelScoring && slots.length >= parallelThreshold
+                ? scoringPool.invoke(new RankTask(ranking, 0, slots.length, grainSize(slots.length)))
+                : ranking.rank(0, slots.length, scoringKernel);
+        double[] scores = ranking.scores;
+
+        int pageSize = Math.min(limit, ranked.length);
+        int[] reasons = new int[pageSize];
+        String[] matches = new String[pageSize];
+        List<ScoredEvent> page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Event event = columns.event(slots[ranked[i]]);
+            score(profile, event, reasons, matches, i);
+            page.add(new ScoredEvent(event, scores[ranked[i]], reasons[i], matches[i]));
+        }
+        RecommendationCursor next = null;
+        if (ranked.length > limit) {
+            ScoredEvent last = page.get(pageSize - 1);
+            next = new RecommendationCursor(last.finalScore(), last.event().getId());
+        }
+        return new RankedPage(List.copyOf(page), next);
+    }
 
-        if (matchedInterest != null) {
-            score += INTEREST_MATCH_WEIGHT;
+    /** Human-readable explanation of a scored event. */
+    public String explain(ScoredEvent scored) {
+        int reasons = scored.reasons();
+        if (POPULAR.isSet(reasons)) {
+            return POPULAR.text();
+        }
+        if (UPCOMING.isSet(reasons)) {
+            return UPCOMING.text();
         }
 
-        int coding = safeScore(event.getCodingImpactScore());
-        int communication = safeScore(event.getCommunicationImpactScore());
-        int popularity = safeScore(event.getPopularityScore());
+        List<String> parts = new ArrayList<>();
+        if (INTEREST_MATCH.isSet(reasons)) {
+            parts.add(INTEREST_MATCH.text().formatted(scored.matchedInterest()));
+        }
+        if (CODING_FOCUS.isSet(reasons)) {
+            parts.add(CODING_FOCUS.text());
+        }
+        if (NETWORKING.isSet(reasons)) {
+            parts.add(NETWORKING.text());
+        }
+        parts.addAll(keywordClassifier.classify(scored.event().getTitle()).reasons());
+        if (CURATED.isSet(reasons)) {
+            parts.add(CURATED.text());
+        }
 
-        double codingPreference = normalizePreference(user.getCodingPreferenceWeight());
-        double communicationPreference = normalizePreference(user.getCommunicationPreferenceWeight());
+        if (parts.isEmpty()) {
+            return "Recommended event";
+        }
+        return String.join("; ", parts);
+    }
 
-        score += coding * CODING_WEIGHT * codingPreference;
-        score += communication * COMMUNICATION_WEIGHT * communicationPreference;
-        score += popularity * POPULARITY_WEIGHT;
+    /** Reason codes of a scored event, in the same order as {@link #explain(ScoredEvent)} renders them. */
+    public List<String> reasonCodes(ScoredEvent scored) {
+        int reasons = scored.reasons();
+        List<String> codes = new ArrayList<>();
+        boolean coldStart = POPULAR.isSet(reasons) || UPCOMING.isSet(reasons);
+        for (RecommendationReason reason : RecommendationReason.values()) {
+            if (reason == CURATED && !coldStart) {
+                codes.addAll(keywordClassifier.reasonCodes(scored.event().getTitle()));
+            }
+            if (reason.isSet(reasons)) {
+                codes.add(reason.name());
+            }
+        }
+        return codes;
+    }
 
-        if (isSameLocation(event, user)) {
-            score += SAME_LOCATION_BONUS;
-        } else if (event.getMode() == EventMode.ONLINE) {
-            score += ONLINE_BONUS;
+    /**
+     * Scores one event and stores its reason bits and matched interest at {@code slot} of the given
+     * arrays. The per-event reference of the formula that {@link ScoringColumns#score} mirrors.
+     */
+    private double score(ScoringProfile profile, Event event, int[] reasons, String[] matches, int slot) {
+        if (profile.coldStart()) {
+            reasons[slot] = safeScore(event.getPopularityScore()) >= 70 ? POPULAR.bit() : UPCOMING.bit();
+            return fallbackScore(event, profile.today());
         }
 
-        String explanation = buildContextualExplanation(
-                matchedInterest,
-                coding,
-                communication,
-                codingPreference,
-                communicationPreference,
-                event.getMode(),
-                event.getTitle(),
-                isFallbackInjected(event.getTitle()));
+        double score = 0.0;
+        int bits = 0;
 
-        return new ScoringResult(score, explanation);
-    }
+        int matched = TagBits.firstCommon(tagCatalog.tagBits(event), profile.interestBits());
+        if (matched >= 0) {
+            score += INTEREST_MATCH_WEIGHT;
+            bits |= INTEREST_MATCH.bit();
+            matches[slot] = tagCatalog.name(matched);
+        }
 
-    private Set<String> safeSet(Set<String> values) {
-        if (values == null) return Collections.emptySet();
-        return values.stream()
-                .filter(Objects::nonNull)
-                .map(String::trim)
-                .map(String::toLowerCase)
-                .filter(v -> !v.isBlank())
-                .collect(java.util.stream.Collectors.toSet());
-    }
+        int codingImpact = safeScore(event.getCodingImpactScore());
+        int communicationImpact = safeScore(event.getCommunicationImpactScore());
+        if (codingImpact >= 80) {
+            bits |= CODING_FOCUS.bit();
+        }
+        if (communicationImpact >= 80) {
+            bits |= NETWORKING.bit();
+        }
+        if (isFallbackInjected(event.getTitle())) {
+            bits |= CURATED.bit();
+        }
+
+        score += codingImpact * CODING_WEIGHT * profile.codingPreference();
+        score += communicationImpact * COMMUNICATION_WEIGHT * profile.communicationPreference();
+        score += safeScore(event.getPopularityScore()) * POPULARITY_WEIGHT;
 
-    private boolean isColdStart(Set<String> interests,
-                                Set<String> skills) {
-        return interests.isEmpty() && skills.isEmpty();
+        if (isSameLocation(event, profile.location())) {
+            score += SAME_LOCATION_BONUS;
+        } else if (event.getMode() == EventMode.ONLINE) {
+            score += ONLINE_BONUS;
+        }
+
+        reasons[slot] = bits;
+        return score;
     }
 
-    private String firstMatch(Set<String> tags, Set<String> interests) {
-        Set<String> normalizedTags = safeSet(tags);
-        for (String interest : interests) {
-            if (normalizedTags.contains(interest)) {
-                return interest;
+    private BitSet matchInterests(ScoringProfile profile, CandidateSet candidates) {
+        BitSet matches = new BitSet(candidates.columns().size());
+        BitSet selected = candidates.selected();
+        for (int slot = selected.nextSetBit(0); slot >= 0; slot = selected.nextSetBit(slot + 1)) {
+            long[] tagBits = tagCatalog.tagBits(candidates.columns().event(slot));
+            if (TagBits.firstCommon(tagBits, profile.interestBits()) >= 0) {
+                matches.set(slot);
             }
         }
-        return null;
+        return matches;
     }
 
-
-    private boolean isSameLocation(Event event, User user) {
-        if (event.getLocation() == null || user.getLocation() == null)
+    private boolean isSameLocation(Event event, String userLocation) {
+        if (event.getLocation() == null || userLocation == null)
             return false;
-        return event.getLocation().equalsIgnoreCase(user.getLocation());
+        return event.getLocation().equalsIgnoreCase(userLocation);
     }
 
     private int safeScore(Integer value) {
@@ -120,71 +318,138 @@ public class RecommendationScoringEngine {
         return Math.max(0.0, Math.min(1.0, value));
     }
 
-    private double fallbackScore(Event event) {
+    private double fallbackScore(Event event, LocalDate today) {
         int popularity = safeScore(event.getPopularityScore());
-        double dateBoost = calculateDateBoost(event.getEventDate());
+        double dateBoost = calculateDateBoost(event.getEventDate(), today);
         return popularity + dateBoost;
     }
 
-    private double calculateDateBoost(LocalDate eventDate) {
+    private double calculateDateBoost(LocalDate eventDate, LocalDate today) {
         if (eventDate == null) return 0.0;
-        long daysUntil = ChronoUnit.DAYS.between(LocalDate.now(), eventDate);
+        long daysUntil = ChronoUnit.DAYS.between(today, eventDate);
         if (daysUntil < 0) return 0.0;
         return 1.0 / (daysUntil + 1);
     }
 
-    private String fallbackExplanation(Event event) {
-        if (safeScore(event.getPopularityScore()) >= 70)
-            return "Popular upcoming event";
-        return "Upcoming soon";
+    private boolean isFallbackInjected(String title) {
+        if (title == null) {
+            return false;
+        }
+        // strip() returns the same instance when there is nothing to strip, so this stays allocation-free.
+        String stripped = title.strip();
+        for (String fallbackTitle : FALLBACK_TITLES) {
+            if (fallbackTitle.equalsIgnoreCase(stripped)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private String buildContextualExplanation(String matchedInterest,
-                                              int codingImpact,
-                                              int communicationImpact,
-                                              double codingPreference,
-                                              double communicationPreference,
-                                              EventMode mode,
-                                              String title,
-                                              boolean isFallback) {
-        List<String> reasons = new ArrayList<>();
+    private int grainSize(int candidates) {
+        return Math.max(MIN_GRAIN_SIZE, candidates / (scoringPool.getParallelism() * 4));
+    }
 
-        if (matchedInterest != null) {
-            reasons.add("This event aligns with your interest in " + matchedInterest + ".");
+    /** Scores and top-K selection for one request, over ordinals into {@code slots}. */
+    private static final class Ranking {
+
+        private final ScoringColumns columns;
+        private final ScoringColumns.Parameters parameters;
+        private final BitSet interestMatches;
+        private final long[] interestWords;
+        private final int[] slots;
+        private final double[] scores;
+        private final double[] denseScores;
+        private final int k;
+        private final RecommendationCursor after;
+        private final IntBinaryOperator tieBreak;
+
+        private Ranking(ScoringColumns columns,
+                        ScoringColumns.Parameters parameters,
+                        BitSet interestMatches,
+                        int[] slots,
+                        boolean dense,
+                        int k,
+                        RecommendationCursor after) {
+            this.columns = columns;
+            this.parameters = parameters;
+            this.interestMatches = interestMatches;
+            this.interestWords = interestMatches.toLongArray();
+            this.slots = slots;
+            this.scores = new double[slots.length];
+            this.denseScores = dense ? new double[columns.size()] : null;
+            this.k = k;
+            this.after = after;
+            // Event id first, then slot: a total order, so any partitioning selects the same events.
+            this.tieBreak = (a, b) -> {
+                int byId = RecommendationCursor.compareIds(columns.event(slots[a]).getId(),
+                        columns.event(slots[b]).getId());
+                return byId != 0 ? byId : Integer.compare(a, b);
+            };
         }
 
-        if (codingImpact >= 80) {
-            reasons.add("Strong coding-focused event");
-        }
+        /** Scores ordinals {@code [from, to)} and returns the best {@code k} of them, best first. */
+        int[] rank(int from, int to, ScoringKernel kernel) {
+            if (from == to) {
+                return new int[0];
+            }
+            if (denseScores != null) {
+                // Slots are ascending, so disjoint ordinal ranges cover disjoint column ranges.
+                kernel.score(columns, parameters, interestWords, slots[from], slots[to - 1] + 1, denseScores);
+                for (int i = from; i < to; i++) {
+                    scores[i] = denseScores[slots[i]];
+                }
+            } else {
+                for (int i = from; i < to; i++) {
+                    scores[i] = columns.score(slots[i], parameters, interestMatches.get(slots[i]));
+                }
+            }
 
-        if (communicationImpact >= 80) {
-            reasons.add("Strong communication/networking opportunity");
+            TopKSelector selector = new TopKSelector(k, tieBreak);
+            for (int i = from; i < to; i++) {
+                if (after == null || after.precedes(scores[i], columns.event(slots[i]).getId())) {
+                    selector.offer(scores[i], i);
+                }
+            }
+            return selector.drainDescending();
         }
 
-        String normalizedTitle = title == null ? "" : title.toLowerCase();
-        if (normalizedTitle.contains("hackathon")) {
-            reasons.add("Competitive hands-on learning");
-        }
-        if (normalizedTitle.contains("bootcamp")) {
-            reasons.add("Structured skill-building program");
+        int[] merge(int[] left, int[] right) {
+            TopKSelector selector = new TopKSelector(k, tieBreak);
+            for (int ordinal : left) {
+                selector.offer(scores[ordinal], ordinal);
+            }
+            for (int ordinal : right) {
+                selector.offer(scores[ordinal], ordinal);
+            }
+            return selector.drainDescending();
         }
+    }
 
-        if (isFallback) {
-            reasons.add("Curated tech event recommendation");
-        }
+    private final class RankTask extends RecursiveTask<int[]> {
 
-        if (reasons.isEmpty()) {
-            return "Recommended event";
-        }
+        private final Ranking ranking;
+        private final int from;
+        private final int to;
+        private final int grainSize;
 
-        return String.join("; ", reasons);
-    }
+        private RankTask(Ranking ranking, int from, int to, int grainSize) {
+            this.ranking = ranking;
+            this.from = from;
+            this.to = to;
+            this.grainSize = grainSize;
+        }
 
-    private boolean isFallbackInjected(String title) {
-        if (title == null || title.isBlank()) {
-            return false;
+        @Override
+        protected int[] compute() {
+            if (to - from <= grainSize) {
+                return ranking.rank(from, to, scoringKernel);
+            }
+            int middle = (from + to) >>> 1;
+            RankTask left = new RankTask(ranking, from, middle, grainSize);
+            left.fork();
+            int[] right = new RankTask(ranking, middle, to, grainSize).compute();
+            return ranking.merge(left.join(), right);
         }
-        return FALLBACK_TITLES.contains(title.trim().toLowerCase());
     }
 
     public record ScoringResult(double finalScore, String explanation) {}
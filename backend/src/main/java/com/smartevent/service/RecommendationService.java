@@ -1,27 +1,25 @@
 package com.smartevent.service;
 
 import com.smartevent.dto.ExternalEventDto;
+import com.smartevent.dto.RecommendationPage;
 import com.smartevent.dto.RecommendationResponse;
 import com.smartevent.entity.Event;
-import com.smartevent.entity.EventCategory;
 import com.smartevent.entity.User;
 import com.smartevent.repository.UserRepository;
+import com.smartevent.security.AuthenticatedUser;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @Service
 public class RecommendationService {
@@ -29,49 +27,74 @@ public class RecommendationService {
     private static final Logger logger =
             LoggerFactory.getLogger(RecommendationService.class);
 
+    static final int MAX_PAGE_SIZE = 50;
+
     private final UserRepository userRepository;
     private final RecommendationScoringEngine scoringEngine;
-    private final ExternalEventService externalEventService;
+    private final RecommendationCandidateProvider candidateProvider;
+    private final RecommendationMaterializer recommendationMaterializer;
+    private final EventSourceAggregator eventSourceAggregator;
+    private final UserProfileCache userProfileCache;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Scheduler jdbcScheduler;
 
     public RecommendationService(UserRepository userRepository,
                                   RecommendationScoringEngine scoringEngine,
-                                  ExternalEventService externalEventService) {
+                                  RecommendationCandidateProvider candidateProvider,
+                                  RecommendationMaterializer recommendationMaterializer,
+                                  EventSourceAggregator eventSourceAggregator,
+                                  UserProfileCache userProfileCache,
+                                  PlatformTransactionManager transactionManager,
+                                  @Qualifier("jdbcScheduler") Scheduler jdbcScheduler) {
         this.userRepository = userRepository;
         this.scoringEngine = scoringEngine;
-        this.externalEventService = externalEventService;
-    }
-
-    @Transactional(readOnly = true)
-    public List<RecommendationResponse> getLiveRecommendations() {
-        return buildLiveRecommendationResult().recommendations();
+        this.candidateProvider = candidateProvider;
+        this.recommendationMaterializer = recommendationMaterializer;
+        this.eventSourceAggregator = eventSourceAggregator;
+        this.userProfileCache = userProfileCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.jdbcScheduler = jdbcScheduler;
     }
 
-    private LiveRecommendationResult buildLiveRecommendationResult() {
-
-        User user = getAuthenticatedUser();
-        if (user == null) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Authenticated user is null");
+    public Mono<RecommendationPage> getLiveRecommendations(int limit, String cursor, String explain) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "limit must be between 1 and " + MAX_PAGE_SIZE));
         }
-
-        List<ExternalEventDto> externalEvents =
-                externalEventService.fetchUpcomingEvents();
-
-        List<Event> events = (externalEvents == null ? List.<ExternalEventDto>of() : externalEvents).stream()
-                .filter(dto -> isStrictTechEvent(dto == null ? null : dto.getTitle()))
-                .map(this::toEvent)
-                .toList();
-
-        if (events.isEmpty()) {
-            events = injectFallbackTechEvents(user);
+        RecommendationCursor after;
+        RecommendationScoringEngine.ExplanationFormat format;
+        try {
+            after = RecommendationCursor.decode(cursor);
+            format = RecommendationScoringEngine.ExplanationFormat.parse(explain);
+        } catch (ResponseStatusException ex) {
+            return Mono.error(ex);
         }
+        return AuthenticatedUser.currentReactive()
+                .flatMap(principal -> Mono.fromCallable(() ->
+                                buildLiveRecommendationPage(principal, limit, after, format))
+                        .subscribeOn(jdbcScheduler));
+    }
 
-        List<RecommendationResponse> sorted = events.stream()
-                .map(event -> {
-                    RecommendationScoringEngine.ScoringResult result =
-                            scoringEngine.evaluate(user, event);
-                    if (result == null) {
-                        return null;
-                    }
+    private RecommendationPage buildLiveRecommendationPage(AuthenticatedUser principal,
+                                                          int limit,
+                                                          RecommendationCursor after,
+                                                          RecommendationScoringEngine.ExplanationFormat format) {
+
+        // A stored ranking answers most pages without reading the user or the catalog.
+        MaterializedRecommendations stored = recommendationMaterializer.lookup(principal.id());
+        RecommendationScoringEngine.RankedPage storedPage = stored == null ? null : stored.page(limit, after);
+        // Catalog reads and scoring touch lazy collections, so they share one read-only transaction.
+        RankedRecommendations ranking = storedPage != null
+                ? new RankedRecommendations(stored, storedPage)
+                : readOnlyTransaction.execute(status -> rank(principal, stored, limit, after));
+        MaterializedRecommendations materialized = ranking.materialized();
+        RecommendationScoringEngine.RankedPage ranked = ranking.page();
+
+        boolean codes = format == RecommendationScoringEngine.ExplanationFormat.CODES;
+        List<RecommendationResponse> sorted = ranked.events().stream()
+                .map(scored -> {
+                    Event event = scored.event();
                     return new RecommendationResponse(
                             event.getId(),
                             event.getTitle(),
@@ -79,247 +102,81 @@ public class RecommendationService {
                             event.getLocation(),
                             event.getMode(),
                             event.getEventDate(),
-                            result.finalScore(),
-                            result.explanation()
+                            scored.finalScore(),
+                            codes ? null : scoringEngine.explain(scored),
+                            codes ? scoringEngine.reasonCodes(scored) : null,
+                            codes ? scored.matchedInterest() : null
                     );
                 })
-                .filter(Objects::nonNull)
-                .sorted(Comparator.comparing(
-                        RecommendationResponse::getFinalScore,
-                        Comparator.reverseOrder()))
-                .limit(5)
                 .toList();
 
         logger.info("Final returned count: {}", sorted.size());
 
-        return new LiveRecommendationResult(events.size(), sorted, user);
+        String nextCursor = ranked.next() == null ? null : ranked.next().encode();
+        return new RecommendationPage(sorted, nextCursor, materialized.catalogVersion(), materialized.computedAt());
     }
 
-    private User getAuthenticatedUser() {
-
-        Authentication authentication =
-                SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated");
+    private RankedRecommendations rank(AuthenticatedUser principal,
+                                       MaterializedRecommendations stored,
+                                       int limit,
+                                       RecommendationCursor after) {
+        User user = findUser(principal);
+        MaterializedRecommendations materialized = stored != null ? stored : recommendationMaterializer.get(user);
+        RecommendationScoringEngine.RankedPage ranked = materialized.page(limit, after);
+        if (ranked == null) {
+            // Deep page past the materialized ranking: score the candidates for this page only.
+            ranked = scoringEngine.evaluatePage(user, candidateProvider.candidatesFor(user), limit, after);
         }
+        return new RankedRecommendations(materialized, ranked);
+    }
+
+    private record RankedRecommendations(MaterializedRecommendations materialized,
+                                         RecommendationScoringEngine.RankedPage page) {
+    }
 
-        String email = authentication.getName();
-        logger.info("Authenticated user email: {}", email);
+    private User findUser(AuthenticatedUser principal) {
+        logger.info("Authenticated user email: {}", principal.email());
 
-        return userRepository.findByEmail(email)
+        return userRepository.findById(principal.id())
                 .orElseThrow(() ->
                         new ResponseStatusException(HttpStatus.NOT_FOUND, "Authenticated user not found"));
     }
 
-    public List<ExternalEventDto> getLiveTrendingEvents() {
+    public Mono<List<ExternalEventDto>> getLiveTrendingEvents() {
+        return AuthenticatedUser.currentReactive()
+                .flatMap(principal -> Mono.fromCallable(() -> findProfile(principal)).subscribeOn(jdbcScheduler))
+                .flatMap(profile -> {
+                    EventQuery query = EventQuery.of(profile.location(), trendingKeyword(profile));
+                    return eventSourceAggregator.fetchEvents(query)
+                            .flatMap(events -> events.isEmpty() && query.keyword() != null
+                                    ? eventSourceAggregator.fetchEvents(query.withoutKeyword())
+                                    : Mono.just(events));
+                });
+    }
+
+    private UserProfile findProfile(AuthenticatedUser principal) {
+        return userProfileCache.get(principal.id())
+                .orElseThrow(() ->
+                        new ResponseStatusException(HttpStatus.NOT_FOUND, "Authenticated user not found"));
+    }
 
-        User user = getAuthenticatedUser();
+    private String trendingKeyword(UserProfile profile) {
 
         double codingPreference =
-                user.getCodingPreferenceWeight() == null
+                profile.codingPreferenceWeight() == null
                         ? 0.5
-                        : user.getCodingPreferenceWeight();
+                        : profile.codingPreferenceWeight();
 
         double communicationPreference =
-                user.getCommunicationPreferenceWeight() == null
+                profile.communicationPreferenceWeight() == null
                         ? 0.5
-                        : user.getCommunicationPreferenceWeight();
-
-        String keyword;
+                        : profile.communicationPreferenceWeight();
 
         if (codingPreference > communicationPreference) {
-            keyword = "developer conference";
+            return "developer conference";
         } else if (communicationPreference > codingPreference) {
-            keyword = "leadership summit";
-        } else {
-            keyword = "technology";
-        }
-
-        List<ExternalEventDto> events =
-                externalEventService.fetchTrendingEvents(keyword);
-
-        if (events == null || events.isEmpty()) {
-            events = externalEventService.fetchTrendingEvents(null);
+            return "leadership summit";
         }
-
-        return events == null ? List.of() : events;
-    }
-
-    private boolean isStrictTechEvent(String title) {
-        if (title == null || title.isBlank()) {
-            return false;
-        }
-        String text = title.toLowerCase();
-        return text.contains("developer")
-                || text.contains("programming")
-                || text.contains("coding")
-                || text.contains("hackathon")
-                || text.contains("bootcamp")
-                || text.contains("software")
-                || text.contains("ai")
-                || text.contains("data")
-                || text.contains("engineering");
-    }
-
-    private List<Event> injectFallbackTechEvents(User user) {
-        double codingPreference = user == null || user.getCodingPreferenceWeight() == null
-                ? 0.5
-                : user.getCodingPreferenceWeight();
-        double communicationPreference = user == null || user.getCommunicationPreferenceWeight() == null
-                ? 0.5
-                : user.getCommunicationPreferenceWeight();
-
-        List<Event> events = new ArrayList<>();
-
-        if (codingPreference > communicationPreference) {
-            events.add(buildFallbackEvent(
-                    "Global Hackathon Series",
-                    EventCategory.TECHNOLOGY,
-                    95,
-                    75,
-                    90
-            ));
-            events.add(buildFallbackEvent(
-                    "AI Developer Bootcamp 2026",
-                    EventCategory.TECHNOLOGY,
-                    92,
-                    70,
-                    88
-            ));
-            events.add(buildFallbackEvent(
-                    "Full Stack Engineering Summit",
-                    EventCategory.TECHNOLOGY,
-                    85,
-                    80,
-                    82
-            ));
-            return events;
-        }
-
-        if (communicationPreference > codingPreference) {
-            events.add(buildFallbackEvent(
-                    "Full Stack Engineering Summit",
-                    EventCategory.TECHNOLOGY,
-                    85,
-                    80,
-                    82
-            ));
-            events.add(buildFallbackEvent(
-                    "AI Developer Bootcamp 2026",
-                    EventCategory.TECHNOLOGY,
-                    92,
-                    70,
-                    88
-            ));
-            events.add(buildFallbackEvent(
-                    "Global Hackathon Series",
-                    EventCategory.TECHNOLOGY,
-                    95,
-                    75,
-                    90
-            ));
-            return events;
-        }
-
-        events.add(buildFallbackEvent(
-                "AI Developer Bootcamp 2026",
-                EventCategory.TECHNOLOGY,
-                92,
-                70,
-                88
-        ));
-        events.add(buildFallbackEvent(
-                "Full Stack Engineering Summit",
-                EventCategory.TECHNOLOGY,
-                85,
-                80,
-                82
-        ));
-        events.add(buildFallbackEvent(
-                "Global Hackathon Series",
-                EventCategory.TECHNOLOGY,
-                95,
-                75,
-                90
-        ));
-        return events;
-    }
-
-    private Event buildFallbackEvent(String title,
-                                     EventCategory category,
-                                     int codingImpactScore,
-                                     int communicationImpactScore,
-                                     int popularityScore) {
-        Event event = new Event();
-        UUID fallbackId = UUID.randomUUID();
-        try {
-            java.lang.reflect.Field idField = com.smartevent.common.BaseEntity.class.getDeclaredField("id");
-            idField.setAccessible(true);
-            idField.set(event, fallbackId);
-        } catch (ReflectiveOperationException ex) {
-            logger.warn("Failed to set fallback event id", ex);
-        }
-        event.setTitle(title);
-        event.setDescription(title);
-        event.setCategory(category);
-        event.setLocation("Online");
-        event.setMode(com.smartevent.entity.EventMode.ONLINE);
-        event.setEventDate(java.time.LocalDate.now().plusWeeks(2));
-        event.setCodingImpactScore(codingImpactScore);
-        event.setCommunicationImpactScore(communicationImpactScore);
-        event.setPopularityScore(popularityScore);
-        event.setTags(new HashSet<>(List.of("AI", "ENGINEERING", "DEVELOPMENT")));
-        return event;
-    }
-
-    private Event toEvent(ExternalEventDto dto) {
-
-        Event event = new Event();
-
-        event.setTitle(dto.getTitle());
-
-        // No description in external API → use title as fallback
-        event.setDescription(dto.getTitle());
-
-        event.setCategory(toCategory(dto.getCategory()));
-
-        event.setLocation(dto.getLocation());
-
-        // External events are assumed ONLINE
-        event.setMode(com.smartevent.entity.EventMode.ONLINE);
-
-        event.setEventDate(dto.getEventDate());
-
-        event.setPopularityScore(dto.getPopularityScore());
-        event.setCodingImpactScore(dto.getCodingImpactScore());
-        event.setCommunicationImpactScore(dto.getCommunicationImpactScore());
-
-        event.setTags(dto.getTags() == null
-                ? new HashSet<>()
-                : new HashSet<>(dto.getTags()));
-
-        return event;
-    }
-
-    private EventCategory toCategory(String value) {
-
-        if (value == null || value.isBlank()) {
-            return EventCategory.OTHER;
-        }
-
-        String normalized =
-                value.trim().replace(" ", "_").toUpperCase();
-
-        try {
-            return EventCategory.valueOf(normalized);
-        } catch (IllegalArgumentException ex) {
-            return EventCategory.OTHER;
-        }
-    }
-
-    private record LiveRecommendationResult(int totalEventsAnalyzed,
-                                            List<RecommendationResponse> recommendations,
-                                            User user) {
+        return "technology";
     }
 }
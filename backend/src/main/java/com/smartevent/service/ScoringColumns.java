@@ -0,0 +1,138 @@
+package com.smartevent.service;
+
+import static com.smartevent.service.RecommendationScoringEngine.CODING_WEIGHT;
+import static com.smartevent.service.RecommendationScoringEngine.COMMUNICATION_WEIGHT;
+import static com.smartevent.service.RecommendationScoringEngine.INTEREST_MATCH_WEIGHT;
+import static com.smartevent.service.RecommendationScoringEngine.ONLINE_BONUS;
+import static com.smartevent.service.RecommendationScoringEngine.POPULARITY_WEIGHT;
+import static com.smartevent.service.RecommendationScoringEngine.SAME_LOCATION_BONUS;
+
+import com.smartevent.entity.Event;
+import com.smartevent.entity.EventMode;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The event fields used for scoring, unboxed into parallel primitive columns indexed by slot, so a
+ * scoring pass streams through a few int arrays instead of chasing entity pointers. Immutable.
+ *
+ * <p>{@link #score} is the scalar reference of the scoring formula; it performs the same operations
+ * in the same order as {@link RecommendationScoringEngine}, so results are bit-identical.</p>
+ */
+public final class ScoringColumns {
+
+    /** Location id of an event without a location. */
+    static final int NO_LOCATION = -1;
+    /** Location id used for a user location no event has; never equal to a column value. */
+    static final int UNKNOWN_LOCATION = -2;
+    static final int NO_DATE = Integer.MIN_VALUE;
+
+    /**
+     * Per-request inputs of the formula: the user's clamped preferences, the user's location id in
+     * these columns and today's epoch day for cold-start date boosts.
+     */
+    public record Parameters(boolean coldStart,
+                             double codingPreference,
+                             double communicationPreference,
+                             int locationId,
+                             long todayEpochDay) {
+    }
+
+    final Event[] events;
+    final int[] coding;
+    final int[] communication;
+    final int[] popularity;
+    final int[] online;
+    final int[] locationIds;
+    final int[] epochDays;
+    private final Map<String, Integer> locations;
+
+    private ScoringColumns(Event[] events) {
+        int size = events.length;
+        this.events = events;
+        this.coding = new int[size];
+        this.communication = new int[size];
+        this.popularity = new int[size];
+        this.online = new int[size];
+        this.locationIds = new int[size];
+        this.epochDays = new int[size];
+        this.locations = new HashMap<>();
+        for (int slot = 0; slot < size; slot++) {
+            Event event = events[slot];
+            coding[slot] = valueOf(event.getCodingImpactScore());
+            communication[slot] = valueOf(event.getCommunicationImpactScore());
+            popularity[slot] = valueOf(event.getPopularityScore());
+            online[slot] = event.getMode() == EventMode.ONLINE ? 1 : 0;
+            locationIds[slot] = event.getLocation() == null
+                    ? NO_LOCATION
+                    : locations.computeIfAbsent(locationKey(event.getLocation()), key -> locations.size());
+            epochDays[slot] = event.getEventDate() == null ? NO_DATE : (int) event.getEventDate().toEpochDay();
+        }
+    }
+
+    public static ScoringColumns of(Event[] events) {
+        return new ScoringColumns(events.clone());
+    }
+
+    public int size() {
+        return events.length;
+    }
+
+    public Event event(int slot) {
+        return events[slot];
+    }
+
+    /** Id of {@code location} in the location column, or {@link #UNKNOWN_LOCATION}. */
+    public int locationId(String location) {
+        if (location == null) {
+            return UNKNOWN_LOCATION;
+        }
+        Integer id = locations.get(locationKey(location));
+        return id == null ? UNKNOWN_LOCATION : id;
+    }
+
+    /** Score of one slot. */
+    public double score(int slot, Parameters parameters, boolean interestMatch) {
+        if (parameters.coldStart()) {
+            return popularity[slot] + dateBoost(epochDays[slot], parameters.todayEpochDay());
+        }
+
+        double score = 0.0;
+        if (interestMatch) {
+            score += INTEREST_MATCH_WEIGHT;
+        }
+        score += coding[slot] * CODING_WEIGHT * parameters.codingPreference();
+        score += communication[slot] * COMMUNICATION_WEIGHT * parameters.communicationPreference();
+        score += popularity[slot] * POPULARITY_WEIGHT;
+        if (locationIds[slot] == parameters.locationId()) {
+            score += SAME_LOCATION_BONUS;
+        } else if (online[slot] == 1) {
+            score += ONLINE_BONUS;
+        }
+        return score;
+    }
+
+    long estimatedBytes() {
+        return (long) events.length * (6 * Integer.BYTES + 8);
+    }
+
+    private static double dateBoost(int epochDay, long today) {
+        if (epochDay == NO_DATE) {
+            return 0.0;
+        }
+        long daysUntil = epochDay - today;
+        if (daysUntil < 0) {
+            return 0.0;
+        }
+        return 1.0 / (daysUntil + 1);
+    }
+
+    private static int valueOf(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private static String locationKey(String location) {
+        return location.toLowerCase(Locale.ROOT);
+    }
+}
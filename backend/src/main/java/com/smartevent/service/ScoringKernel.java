@@ -0,0 +1,51 @@
+package com.smartevent.service;
+
+import org.slf4j.LoggerFactory;
+
+/**
+ * Scores a range of slots of a {@link ScoringColumns} in one pass. Implementations must produce
+ * exactly the results of {@link ScoringColumns#score} so rankings and cursors do not depend on the
+ * kernel. Disjoint ranges may be scored concurrently into the same array.
+ */
+public interface ScoringKernel {
+
+    /**
+     * Writes the score of every slot in {@code [from, to)} to {@code out[slot]}. Bit {@code slot} of
+     * {@code interestMatches} (in {@link java.util.BitSet#toLongArray()} layout) tells whether the
+     * slot matches an interest.
+     */
+    void score(ScoringColumns columns,
+               ScoringColumns.Parameters parameters,
+               long[] interestMatches,
+               int from,
+               int to,
+               double[] out);
+
+    static ScoringKernel scalar() {
+        return (columns, parameters, interestMatches, from, to, out) -> {
+            for (int slot = from; slot < to; slot++) {
+                out[slot] = columns.score(slot, parameters, isSet(interestMatches, slot));
+            }
+        };
+    }
+
+    /**
+     * The SIMD kernel if requested and the JVM was started with
+     * {@code --add-modules jdk.incubator.vector}, the scalar kernel otherwise.
+     */
+    static ScoringKernel select(boolean preferVector) {
+        if (preferVector && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            return new VectorScoringKernel();
+        }
+        if (preferVector) {
+            LoggerFactory.getLogger(ScoringKernel.class)
+                    .info("jdk.incubator.vector is not available; scoring with the scalar kernel");
+        }
+        return scalar();
+    }
+
+    static boolean isSet(long[] bits, int index) {
+        int word = index >>> 6;
+        return word < bits.length && (bits[word] & (1L << index)) != 0;
+    }
+}
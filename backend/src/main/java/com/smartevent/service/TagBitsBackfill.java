@@ -0,0 +1,72 @@
+package com.smartevent.service;
+
+import com.smartevent.entity.Event;
+import com.smartevent.entity.User;
+import com.smartevent.repository.EventRepository;
+import com.smartevent.repository.UserRepository;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Encodes the tag bits of users and events stored before they existed, in batches of 500 at
+ * startup. Until a row is encoded, {@link TagCatalog} looks up its known tags on every read; tags
+ * new to the dictionary are only interned here and by ingestion.
+ */
+@Component
+public class TagBitsBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagBitsBackfill.class);
+
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final TagCatalog tagCatalog;
+    private final TransactionTemplate transaction;
+
+    public TagBitsBackfill(UserRepository userRepository,
+                           EventRepository eventRepository,
+                           TagCatalog tagCatalog,
+                           PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.eventRepository = eventRepository;
+        this.tagCatalog = tagCatalog;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int users = 0;
+        int batch;
+        do {
+            batch = count(transaction.execute(status -> {
+                List<User> pending = userRepository.findTop500ByInterestBitsIsNull();
+                pending.forEach(tagCatalog::encodeProfile);
+                return pending.size();
+            }));
+            users += batch;
+        } while (batch > 0);
+
+        int events = 0;
+        do {
+            batch = count(transaction.execute(status -> {
+                List<Event> pending = eventRepository.findTop500ByTagBitsIsNull();
+                pending.forEach(event -> event.setTagBits(tagCatalog.encode(event.getTags())));
+                return pending.size();
+            }));
+            events += batch;
+        } while (batch > 0);
+
+        if (users > 0 || events > 0) {
+            logger.info("Encoded tag bits for {} users and {} events", users, events);
+        }
+    }
+
+    private static int count(Integer batch) {
+        return batch == null ? 0 : batch;
+    }
+}
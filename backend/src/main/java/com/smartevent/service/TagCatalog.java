@@ -0,0 +1,191 @@
+package com.smartevent.service;
+
+import com.smartevent.common.TagBits;
+import com.smartevent.common.TagDictionary;
+import com.smartevent.entity.Event;
+import com.smartevent.entity.Tag;
+import com.smartevent.entity.User;
+import com.smartevent.repository.TagRepository;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The global tag dictionary, persisted in {@code tags} so ids stay stable across restarts and
+ * instances. Event tags and user interests and skills are encoded against it as {@link TagBits},
+ * which turns interest matching into a bitwise AND.
+ *
+ * <p>The dictionary is loaded on first use. Only ingestion and {@link TagBitsBackfill} add tags,
+ * through {@link #encode} and {@link #intern}: a new tag is inserted in its own transaction with
+ * the next free id, and if another instance took that id or name first, the dictionary is
+ * reloaded and the insert retried. Read paths only look tags up and skip unknown ones, so a
+ * request never needs a second connection. No lock is held across a database call.</p>
+ */
+@Component
+public class TagCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagCatalog.class);
+
+    private static final int MAX_INSERT_ATTEMPTS = 3;
+
+    private final TagRepository tagRepository;
+    private final TransactionTemplate newTransaction;
+
+    private final AtomicReference<TagDictionary> dictionary = new AtomicReference<>();
+    /** Serializes in-memory changes to the dictionary after an insert or reload. */
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    public TagCatalog(TagRepository tagRepository, PlatformTransactionManager transactionManager) {
+        this.tagRepository = tagRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * The id of {@code tag}, persisting it with the next free id if it is new; -1 for a blank tag.
+     * For ingestion and backfill only: a new tag costs an insert on a separate connection.
+     */
+    public int intern(String tag) {
+        String name = TagDictionary.normalize(tag);
+        if (name == null) {
+            return -1;
+        }
+        int id = dictionary().idOf(name);
+        return id >= 0 ? id : insert(name);
+    }
+
+    /** The id of {@code tag}, or -1 if it is blank or not in the dictionary. Never writes. */
+    public int idOf(String tag) {
+        return dictionary().idOf(tag);
+    }
+
+    /** Encodes {@code tags}, interning any that are new. For ingestion and backfill only. */
+    public long[] encode(Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return TagBits.EMPTY;
+        }
+        return TagBits.of(tags.stream().mapToInt(this::intern).toArray());
+    }
+
+    /** Encodes the known tags among {@code tags}; unknown ones are skipped. Never writes. */
+    public long[] lookup(Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return TagBits.EMPTY;
+        }
+        return TagBits.of(tags.stream().mapToInt(this::idOf).toArray());
+    }
+
+    /** The event's stored tag bits, or its known tags looked up for an event that has none yet. */
+    public long[] tagBits(Event event) {
+        return event.getTagBits() != null ? event.getTagBits() : lookup(event.getTags());
+    }
+
+    /** The user's stored interest bits, or the known interests looked up for a user that has none yet. */
+    public long[] interestBits(User user) {
+        return user.getInterestBits() != null ? user.getInterestBits() : lookup(user.getInterests());
+    }
+
+    public long[] skillBits(User user) {
+        return user.getSkillBits() != null ? user.getSkillBits() : lookup(user.getSkills());
+    }
+
+    /** Stores the encoding of the user's interests and skills, interning new tags; call whenever either changes. */
+    public void encodeProfile(User user) {
+        user.setInterestBits(encode(user.getInterests()));
+        user.setSkillBits(encode(user.getSkills()));
+    }
+
+    public String name(int id) {
+        return dictionary().name(id);
+    }
+
+    /** Number of known tags; 0 before the dictionary is first used. */
+    public int size() {
+        TagDictionary current = dictionary.get();
+        return current == null ? 0 : current.size();
+    }
+
+    private TagDictionary dictionary() {
+        TagDictionary current = dictionary.get();
+        if (current != null) {
+            return current;
+        }
+        // Concurrent first callers may each load; the first to finish is kept.
+        dictionary.compareAndSet(null, load());
+        return dictionary.get();
+    }
+
+    private int insert(String name) {
+        for (int attempt = 1; ; attempt++) {
+            TagDictionary current = dictionary();
+            int id = current.idOf(name);
+            if (id >= 0) {
+                return id;
+            }
+            int next = current.size();
+            try {
+                newTransaction.executeWithoutResult(status -> tagRepository.save(new Tag(next, name)));
+            } catch (DataAccessException ex) {
+                if (attempt == MAX_INSERT_ATTEMPTS) {
+                    throw ex;
+                }
+                logger.info("Tag id {} or '{}' was taken concurrently, reloading the dictionary", next, name);
+                reload();
+                continue;
+            }
+
+            updateLock.lock();
+            try {
+                TagDictionary latest = dictionary.get();
+                if (latest.size() == next) {
+                    return latest.intern(name);
+                }
+                id = latest.idOf(name);
+                if (id >= 0) {
+                    return id;
+                }
+            } finally {
+                updateLock.unlock();
+            }
+            // The in-memory dictionary moved on while inserting; take the committed row from the table.
+            id = reload().idOf(name);
+            if (id >= 0) {
+                return id;
+            }
+        }
+    }
+
+    /** Loads the table and publishes it unless the dictionary in memory already knows more tags. */
+    private TagDictionary reload() {
+        TagDictionary loaded = load();
+        updateLock.lock();
+        try {
+            TagDictionary current = dictionary.get();
+            if (current == null || loaded.size() >= current.size()) {
+                dictionary.set(loaded);
+                return loaded;
+            }
+            return current;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private TagDictionary load() {
+        TagDictionary loaded = new TagDictionary();
+        for (Tag tag : tagRepository.findAll(Sort.by("id"))) {
+            if (loaded.intern(tag.getName()) != tag.getId()) {
+                throw new IllegalStateException("Tag ids are not dense at " + tag.getId() + " (" + tag.getName() + ")");
+            }
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,161 @@
+package com.smartevent.service;
+
+import com.smartevent.common.CircuitBreaker;
+import com.smartevent.config.TicketmasterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Failure isolation for single Ticketmaster calls: a per-call deadline, a concurrency bulkhead,
+ * a circuit breaker on error and latency rates, and optional hedging after the observed p95.
+ * Rejections fail fast so callers fall back to cached data instead of queueing on a sick upstream.
+ */
+@Component
+public class TicketmasterCallGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketmasterCallGuard.class);
+
+    private static final int LATENCY_SAMPLES = 128;
+    private static final int MIN_HEDGE_SAMPLES = 20;
+
+    private final Duration callTimeout;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final boolean hedgeEnabled;
+    private final long hedgeMinDelayNanos;
+
+    private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_SAMPLES);
+    private final AtomicLong latencyCursor = new AtomicLong();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter bulkheadRejections;
+    private final Counter circuitRejections;
+    private final Counter hedgedCalls;
+
+    public TicketmasterCallGuard(TicketmasterProperties ticketmasterProperties, MeterRegistry meterRegistry) {
+        TicketmasterProperties.Resilience resilience = ticketmasterProperties.getResilience();
+        this.meterRegistry = meterRegistry;
+        this.callTimeout = Duration.ofMillis(resilience.getCallTimeoutMs());
+        this.bulkhead = new Semaphore(resilience.getMaxConcurrentCalls());
+        this.hedgeEnabled = resilience.isHedgeEnabled();
+        this.hedgeMinDelayNanos = TimeUnit.MILLISECONDS.toNanos(resilience.getHedgeMinDelayMs());
+        this.circuitBreaker = new CircuitBreaker(
+                "ticketmaster",
+                resilience.getSlidingWindowSize(),
+                resilience.getMinimumCalls(),
+                resilience.getFailureRateThreshold(),
+                resilience.getSlowCallRateThreshold(),
+                resilience.getSlowCallDurationMs(),
+                resilience.getOpenDurationMs(),
+                resilience.getHalfOpenCalls(),
+                this::onTransition);
+
+        this.bulkheadRejections = Counter.builder("ticketmaster.bulkhead.rejected").register(meterRegistry);
+        this.circuitRejections = Counter.builder("ticketmaster.circuit.rejected").register(meterRegistry);
+        this.hedgedCalls = Counter.builder("ticketmaster.hedged.calls").register(meterRegistry);
+        Gauge.builder("ticketmaster.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("0 = closed, 1 = open, 2 = half-open")
+                .register(meterRegistry);
+        Gauge.builder("ticketmaster.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .register(meterRegistry);
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        Mono<T> attempt = Mono.defer(() -> guarded(call));
+        if (!hedgeEnabled) {
+            return attempt;
+        }
+        return Mono.defer(() -> {
+            long delay = hedgeDelayNanos();
+            if (delay <= 0) {
+                return attempt;
+            }
+            Mono<T> hedge = Mono.delay(Duration.ofNanos(delay))
+                    .doOnNext(tick -> hedgedCalls.increment())
+                    .then(attempt);
+            return Mono.firstWithValue(attempt, hedge);
+        });
+    }
+
+    private <T> Mono<T> guarded(Supplier<Mono<T>> call) {
+        if (!bulkhead.tryAcquire()) {
+            bulkheadRejections.increment();
+            return Mono.error(new RejectedExecutionException("Ticketmaster bulkhead is full"));
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            circuitRejections.increment();
+            return Mono.error(new CircuitBreaker.CallNotPermittedException(circuitBreaker.getName()));
+        }
+
+        long start = System.nanoTime();
+        AtomicBoolean completed = new AtomicBoolean();
+        return call.get()
+                .timeout(callTimeout)
+                .doOnSuccess(value -> {
+                    if (completed.compareAndSet(false, true)) {
+                        long elapsed = System.nanoTime() - start;
+                        recordLatency(elapsed);
+                        circuitBreaker.onSuccess(elapsed);
+                    }
+                })
+                .doOnError(ex -> {
+                    if (completed.compareAndSet(false, true)) {
+                        circuitBreaker.onError(System.nanoTime() - start);
+                    }
+                })
+                .doOnCancel(() -> {
+                    if (completed.compareAndSet(false, true)) {
+                        circuitBreaker.onCancel();
+                    }
+                })
+                .doFinally(signal -> bulkhead.release());
+    }
+
+    private void recordLatency(long nanos) {
+        int slot = (int) (latencyCursor.getAndIncrement() % LATENCY_SAMPLES);
+        latencies.set(slot, nanos);
+    }
+
+    /** p95 of recent successful calls, floored at the configured minimum; 0 while warming up. */
+    private long hedgeDelayNanos() {
+        int samples = (int) Math.min(latencyCursor.get(), LATENCY_SAMPLES);
+        if (samples < MIN_HEDGE_SAMPLES) {
+            return 0;
+        }
+        long[] sorted = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        long p95 = sorted[(int) Math.ceil(samples * 0.95) - 1];
+        return Math.max(p95, hedgeMinDelayNanos);
+    }
+
+    private void onTransition(CircuitBreaker.Transition transition) {
+        logger.warn("Ticketmaster circuit breaker {} -> {}", transition.from(), transition.to());
+        Counter.builder("ticketmaster.circuit.transitions")
+                .tag("from", transition.from().name())
+                .tag("to", transition.to().name())
+                .register(meterRegistry)
+                .increment();
+    }
+}
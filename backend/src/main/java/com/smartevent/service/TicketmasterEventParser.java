@@ -0,0 +1,245 @@
+package com.smartevent.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.smartevent.dto.ExternalEventDto;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Token-streaming reader for Ticketmaster {@code /events.json} payloads.
+ *
+ * <p>Only the handful of fields we use are read; everything else (images, sales, price ranges,
+ * nested attractions) is skipped at the token level. Relevance is decided on the raw segment and
+ * title strings, so rejected events never allocate a DTO.</p>
+ */
+final class TicketmasterEventParser {
+
+    @FunctionalInterface
+    interface RelevanceFilter {
+        boolean accept(String segmentName, String title);
+    }
+
+    record ParseResult(List<ExternalEventDto> events, int totalFetched, int totalPages) {
+
+        static ParseResult empty() {
+            return new ParseResult(List.of(), 0, 0);
+        }
+
+        ParseResult withTotalPages(int pages) {
+            return new ParseResult(events, totalFetched, pages);
+        }
+    }
+
+    private TicketmasterEventParser() {
+    }
+
+    static ParseResult parse(JsonParser parser, RelevanceFilter filter) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return ParseResult.empty();
+        }
+
+        ParseResult result = ParseResult.empty();
+        int totalPages = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("_embedded".equals(field) && value == JsonToken.START_OBJECT) {
+                result = readEmbedded(parser, filter);
+            } else if ("page".equals(field)) {
+                totalPages = parseInt(readNestedText(parser, value, "totalPages"));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return result.withTotalPages(totalPages);
+    }
+
+    private static ParseResult readEmbedded(JsonParser parser, RelevanceFilter filter) throws IOException {
+        ParseResult result = ParseResult.empty();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("events".equals(field) && value == JsonToken.START_ARRAY) {
+                result = readEvents(parser, filter);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    private static ParseResult readEvents(JsonParser parser, RelevanceFilter filter) throws IOException {
+        List<ExternalEventDto> events = new ArrayList<>();
+        int total = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            total++;
+            ExternalEventDto dto = readEvent(parser, filter);
+            if (dto != null) {
+                events.add(dto);
+            }
+        }
+        return new ParseResult(events, total, 0);
+    }
+
+    private static ExternalEventDto readEvent(JsonParser parser, RelevanceFilter filter) throws IOException {
+        String id = null;
+        String name = null;
+        String localDate = null;
+        String segmentName = null;
+        String[] venue = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> id = scalarText(parser, value);
+                case "name" -> name = scalarText(parser, value);
+                case "dates" -> localDate = readNestedText(parser, value, "start", "localDate");
+                case "classifications" -> segmentName = readFirstElementText(parser, value, "segment", "name");
+                case "_embedded" -> venue = readVenue(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (!filter.accept(segmentName, name)) {
+            return null;
+        }
+
+        ExternalEventDto dto = new ExternalEventDto(id, name,
+                venue == null ? null : venue[0], parseLocalDate(localDate));
+        dto.setCountryCode(venue == null ? null : venue[1]);
+        return dto;
+    }
+
+    /** Returns {@code [cityName, countryCode]} of the first venue, or null when absent. */
+    private static String[] readVenue(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String[] venue = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken child = parser.nextToken();
+            if ("venues".equals(field) && child == JsonToken.START_ARRAY) {
+                venue = readFirstVenue(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return venue;
+    }
+
+    private static String[] readFirstVenue(JsonParser parser) throws IOException {
+        String[] venue = null;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (venue != null || token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            venue = new String[2];
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken child = parser.nextToken();
+                switch (field) {
+                    case "city" -> venue[0] = readNestedText(parser, child, "name");
+                    case "country" -> venue[1] = readNestedText(parser, child, "countryCode");
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return venue;
+    }
+
+    private static String readFirstElementText(JsonParser parser, JsonToken value, String... path) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        String text = null;
+        boolean first = true;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (first) {
+                text = readNestedText(parser, token, path);
+                first = false;
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Follows {@code path} through nested objects starting at the current token and returns
+     * the scalar at its end. Leaves the parser positioned on the closing token of the value.
+     */
+    private static String readNestedText(JsonParser parser, JsonToken value, String... path) throws IOException {
+        return readNestedText(parser, value, path, 0);
+    }
+
+    private static String readNestedText(JsonParser parser, JsonToken value, String[] path, int depth) throws IOException {
+        if (depth == path.length) {
+            return scalarText(parser, value);
+        }
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String text = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken child = parser.nextToken();
+            if (path[depth].equals(field)) {
+                text = readNestedText(parser, child, path, depth + 1);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return text;
+    }
+
+    private static String scalarText(JsonParser parser, JsonToken value) throws IOException {
+        if (value == null || !value.isScalarValue()) {
+            parser.skipChildren();
+            return null;
+        }
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        String text = parser.getValueAsString();
+        return text == null || text.isBlank() ? null : text;
+    }
+
+    private static int parseInt(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    private static LocalDate parseLocalDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+}
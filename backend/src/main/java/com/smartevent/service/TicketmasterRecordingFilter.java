@@ -0,0 +1,69 @@
+package com.smartevent.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Copies successful {@code /events.json} response bodies into {@code ticketmaster.stub.record-dir}
+ * as {@code events-NNNN.json}, ready to be replayed by {@link TicketmasterStubServer}.
+ */
+public class TicketmasterRecordingFilter implements ExchangeFilterFunction {
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketmasterRecordingFilter.class);
+
+    private final Path directory;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public TicketmasterRecordingFilter(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not create recording directory " + directory, ex);
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return next.exchange(request).map(response -> {
+            if (!response.statusCode().is2xxSuccessful() || !request.url().getPath().endsWith("/events.json")) {
+                return response;
+            }
+            return response.mutate()
+                    .body(body -> DataBufferUtils.join(body)
+                            .flatMap(this::record)
+                            .flux())
+                    .build();
+        });
+    }
+
+    private Mono<DataBuffer> record(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        Path target = directory.resolve(String.format("events-%04d.json", sequence.incrementAndGet()));
+        // File IO stays off the Netty event loop.
+        return Mono.fromCallable(() -> Files.write(target, bytes))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(path -> logger.info("Recorded Ticketmaster response to {}", path))
+                .onErrorResume(IOException.class, ex -> {
+                    logger.warn("Could not record Ticketmaster response to {}: {}", target, ex.toString());
+                    return Mono.empty();
+                })
+                .thenReturn(DefaultDataBufferFactory.sharedInstance.wrap(bytes));
+    }
+}
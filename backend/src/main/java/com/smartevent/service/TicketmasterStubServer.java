@@ -0,0 +1,260 @@
+package com.smartevent.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.smartevent.config.TicketmasterProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * Embedded stand-in for the Ticketmaster Discovery API, used for offline load and latency testing.
+ *
+ * <p>Serves {@code /events.json} either by replaying recorded payloads (page {@code n} gets
+ * recording {@code n % count}, in file-name order) or, when {@code synthetic-events} is set, by
+ * generating pages of that many relevant events. Every response is delayed by a sample from the
+ * configured latency distribution, and a configurable fraction of requests fail with
+ * {@code error-status}. Handlers run on virtual threads, so slow responses cost no platform threads.</p>
+ */
+public class TicketmasterStubServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketmasterStubServer.class);
+
+    // z-score of the 99th percentile of a standard normal distribution.
+    private static final double Z_99 = 2.326;
+
+    private static final String[] SYNTHETIC_TITLES = {
+            "Developer Summit", "Tech Meetup", "AI Workshop", "Cloud Computing Day",
+            "Data Engineering Forum", "Hackathon", "Programming Bootcamp", "Software Engineering Conference"
+    };
+
+    private final TicketmasterProperties.Stub settings;
+    private final List<byte[]> recordings;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public TicketmasterStubServer(TicketmasterProperties.Stub settings) {
+        this.settings = settings;
+        this.recordings = settings.getSyntheticEvents() > 0 ? List.of() : loadRecordings(settings.getRecordings());
+        if (settings.getSyntheticEvents() <= 0 && recordings.isEmpty()) {
+            throw new IllegalStateException("No Ticketmaster recordings found at " + settings.getRecordings()
+                    + " and synthetic-events is not set");
+        }
+    }
+
+    public synchronized void start() {
+        if (server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", settings.getPort()), 1024);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not start Ticketmaster stub", ex);
+        }
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/events.json", this::handle);
+        server.start();
+        logger.info("Ticketmaster stub listening on {} ({})", getBaseUrl(),
+                recordings.isEmpty() ? settings.getSyntheticEvents() + " synthetic events per page"
+                        : recordings.size() + " recordings");
+    }
+
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        logger.info("Ticketmaster stub stopped after {} responses ({} injected failures)", served.get(), failed.get());
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getServedCount() {
+        return served.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            sleep(sampleLatencyMs());
+            served.incrementAndGet();
+
+            if (ThreadLocalRandom.current().nextDouble() < settings.getErrorRate()) {
+                failed.incrementAndGet();
+                respond(exchange, settings.getErrorStatus(),
+                        "{\"fault\":{\"faultstring\":\"Injected by Ticketmaster stub\"}}".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            int page = parseInt(query.get("page"), 0);
+            byte[] body = recordings.isEmpty()
+                    ? syntheticPage(page, query.get("countryCode"), query.get("keyword"))
+                    : recordings.get(page % recordings.size());
+            respond(exchange, 200, body);
+        }
+    }
+
+    long sampleLatencyMs() {
+        TicketmasterProperties.Latency latency = settings.getLatency();
+        long median = Math.max(0, latency.getMedianMs());
+        if (latency.getDistribution() == TicketmasterProperties.Latency.Distribution.FIXED || median == 0) {
+            return median;
+        }
+        // Log-normal fitted to the configured median and p99, capped so one sample cannot stall a run.
+        double sigma = Math.log(Math.max(latency.getP99Ms(), median) / (double) median) / Z_99;
+        double sample = median * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian());
+        return Math.min(Math.round(sample), latency.getP99Ms() * 10);
+    }
+
+    private byte[] syntheticPage(int page, String countryCode, String keyword) throws IOException {
+        int size = settings.getSyntheticEvents();
+        int totalPages = Math.max(settings.getTotalPages(), 1);
+        String country = countryCode == null ? "US" : countryCode;
+        String idPrefix = "stub-" + country + "-" + (keyword == null ? "all" : keyword) + "-" + page + "-";
+        LocalDate today = LocalDate.now();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size * 400 + 128);
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            if (page < totalPages) {
+                generator.writeObjectFieldStart("_embedded");
+                generator.writeArrayFieldStart("events");
+                for (int i = 0; i < size; i++) {
+                    int ordinal = page * size + i;
+                    generator.writeStartObject();
+                    generator.writeStringField("name", SYNTHETIC_TITLES[ordinal % SYNTHETIC_TITLES.length] + " " + ordinal);
+                    generator.writeStringField("type", "event");
+                    generator.writeStringField("id", idPrefix + i);
+                    generator.writeStringField("url", "https://www.ticketmaster.com/event/" + idPrefix + i);
+                    generator.writeObjectFieldStart("dates");
+                    generator.writeObjectFieldStart("start");
+                    generator.writeStringField("localDate", today.plusDays(ordinal % 180).toString());
+                    generator.writeStringField("localTime", "18:00:00");
+                    generator.writeEndObject();
+                    generator.writeEndObject();
+                    generator.writeArrayFieldStart("classifications");
+                    generator.writeStartObject();
+                    generator.writeBooleanField("primary", true);
+                    generator.writeObjectFieldStart("segment");
+                    generator.writeStringField("id", "KZFzniwnSyZfZ7v7n1");
+                    generator.writeStringField("name", "Miscellaneous");
+                    generator.writeEndObject();
+                    generator.writeEndObject();
+                    generator.writeEndArray();
+                    generator.writeObjectFieldStart("_embedded");
+                    generator.writeArrayFieldStart("venues");
+                    generator.writeStartObject();
+                    generator.writeStringField("name", "Stub Convention Center");
+                    generator.writeObjectFieldStart("city");
+                    generator.writeStringField("name", "Stub City");
+                    generator.writeEndObject();
+                    generator.writeObjectFieldStart("country");
+                    generator.writeStringField("countryCode", country);
+                    generator.writeEndObject();
+                    generator.writeEndObject();
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeObjectFieldStart("page");
+            generator.writeNumberField("size", size);
+            generator.writeNumberField("totalElements", (long) size * totalPages);
+            generator.writeNumberField("totalPages", totalPages);
+            generator.writeNumberField("number", page);
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static List<byte[]> loadRecordings(String location) {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(location);
+            Arrays.sort(resources, Comparator.comparing(resource -> String.valueOf(resource.getFilename())));
+            List<byte[]> loaded = new ArrayList<>(resources.length);
+            for (Resource resource : resources) {
+                loaded.add(resource.getContentAsByteArray());
+            }
+            return List.copyOf(loaded);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not load Ticketmaster recordings from " + location, ex);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static int parseInt(String value, int fallback) {
+        try {
+            return value == null ? fallback : Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            return fallback;
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -5,12 +5,9 @@ import com.smartevent.entity.User;
 import com.smartevent.entity.UserBookmark;
 import com.smartevent.repository.UserBookmarkRepository;
 import com.smartevent.repository.UserRepository;
+import com.smartevent.security.AuthenticatedUser;
 import java.util.List;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -18,8 +15,6 @@ import org.springframework.web.server.ResponseStatusException;
 @Service
 public class UserBookmarkService {
 
-    private static final Logger logger = LoggerFactory.getLogger(UserBookmarkService.class);
-
     private final UserRepository userRepository;
     private final UserBookmarkRepository userBookmarkRepository;
 
@@ -66,17 +61,9 @@ public class UserBookmarkService {
                 .toList();
     }
 
+    /** A reference to the caller's row: bookmarks only need its id, so no query is issued. */
     private User getAuthenticatedUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated");
-        }
-
-        String email = authentication.getName();
-        logger.info("Authenticated user email: {}", email);
-
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Authenticated user not found"));
+        return userRepository.getReferenceById(AuthenticatedUser.current().id());
     }
 }
 
@@ -0,0 +1,41 @@
+package com.smartevent.service;
+
+import com.smartevent.entity.Role;
+import com.smartevent.entity.User;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * An immutable snapshot of a user row, including its interests and skills, as held by
+ * {@link UserProfileCache}. {@code version} is unique per load and grows after every invalidation,
+ * so caches derived from a profile can key off it.
+ */
+public record UserProfile(UUID id,
+                          String email,
+                          Role role,
+                          int passwordVersion,
+                          String location,
+                          Set<String> interests,
+                          Set<String> skills,
+                          Double codingPreferenceWeight,
+                          Double communicationPreferenceWeight,
+                          Instant createdAt,
+                          long version) {
+
+    /** Copies {@code user}; must run inside a transaction, as it reads the lazy collections. */
+    static UserProfile of(User user, long version) {
+        return new UserProfile(
+                user.getId(),
+                user.getEmail(),
+                user.getRole(),
+                user.getPasswordVersion(),
+                user.getLocation(),
+                Set.copyOf(user.getInterests()),
+                Set.copyOf(user.getSkills()),
+                user.getCodingPreferenceWeight(),
+                user.getCommunicationPreferenceWeight(),
+                user.getCreatedAt(),
+                version);
+    }
+}
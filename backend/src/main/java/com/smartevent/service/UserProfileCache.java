@@ -0,0 +1,114 @@
+package com.smartevent.service;
+
+import com.smartevent.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Read-through cache of {@link UserProfile}s by user id, bounded to
+ * {@code app.users.profile-cache-size} entries with least-recently-used eviction.
+ *
+ * <p>Every write to a user row (preferences, password, interests) must call {@link #invalidate}
+ * before it returns. A load that overlaps an invalidation is returned but not cached, so a
+ * profile read before the write can never be stored after it.</p>
+ */
+@Component
+public class UserProfileCache {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxEntries;
+
+    private final Map<UUID, UserProfile> entries;
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public UserProfileCache(UserRepository userRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.users.profile-cache-size:10000}") int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("app.users.profile-cache-size must be positive");
+        }
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, UserProfile> eldest) {
+                return size() > UserProfileCache.this.maxEntries;
+            }
+        };
+
+        registerRequestCounter(meterRegistry, "hit", hits);
+        registerRequestCounter(meterRegistry, "miss", misses);
+        Gauge.builder("user.profile.cache.size", this, UserProfileCache::size).register(meterRegistry);
+        Gauge.builder("user.profile.cache.hit.ratio", this, UserProfileCache::hitRatio).register(meterRegistry);
+    }
+
+    /** The user's profile, loading it on a miss; empty if the user does not exist. */
+    public Optional<UserProfile> get(UUID userId) {
+        UserProfile cached;
+        synchronized (entries) {
+            cached = entries.get(userId);
+        }
+        if (cached != null) {
+            hits.incrementAndGet();
+            return Optional.of(cached);
+        }
+        misses.incrementAndGet();
+
+        long invalidationsBefore = invalidations.get();
+        UserProfile loaded = readOnlyTransaction.execute(status -> userRepository.findById(userId)
+                .map(user -> UserProfile.of(user, versions.incrementAndGet()))
+                .orElse(null));
+        if (loaded != null) {
+            synchronized (entries) {
+                if (invalidations.get() == invalidationsBefore) {
+                    entries.put(userId, loaded);
+                }
+            }
+        }
+        return Optional.ofNullable(loaded);
+    }
+
+    /** Drops the user's profile; the next {@link #get} reloads it under a new version. */
+    public void invalidate(UUID userId) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.remove(userId);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private double hitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /** Registered against the counter itself: Micrometer holds its state object only weakly. */
+    private static void registerRequestCounter(MeterRegistry meterRegistry, String result, AtomicLong count) {
+        FunctionCounter.builder("user.profile.cache.requests", count, AtomicLong::get)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
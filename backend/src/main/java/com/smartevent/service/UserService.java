@@ -5,10 +5,9 @@ import com.smartevent.dto.UserMeResponse;
 import com.smartevent.dto.UserPreferenceRequest;
 import com.smartevent.entity.User;
 import com.smartevent.repository.UserRepository;
-import java.util.Optional;
+import com.smartevent.security.AuthenticatedUser;
+import com.smartevent.security.TokenRevocationList;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -18,45 +17,43 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RecommendationMaterializer recommendationMaterializer;
+    private final UserProfileCache userProfileCache;
+    private final TokenRevocationList revocationList;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository,
+                       PasswordEncoder passwordEncoder,
+                       RecommendationMaterializer recommendationMaterializer,
+                       UserProfileCache userProfileCache,
+                       TokenRevocationList revocationList) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.recommendationMaterializer = recommendationMaterializer;
+        this.userProfileCache = userProfileCache;
+        this.revocationList = revocationList;
     }
 
     public UserMeResponse getCurrentUserProfile() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated");
-        }
-
-        String email = authentication.getName();
-        Optional<User> userOptional = userRepository.findByEmail(email);
-        User user = userOptional.orElseThrow(() ->
-                new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+        UserProfile profile = userProfileCache.get(AuthenticatedUser.current().id())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
 
         return new UserMeResponse(
-                user.getId(),
-                user.getEmail(),
-                user.getCodingPreferenceWeight(),
-                user.getCommunicationPreferenceWeight(),
-                user.getCreatedAt()
+                profile.id(),
+                profile.email(),
+                profile.codingPreferenceWeight(),
+                profile.communicationPreferenceWeight(),
+                profile.createdAt()
         );
     }
 
     public UserMeResponse updatePreferences(UserPreferenceRequest request) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated");
-        }
-
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+        User user = getAuthenticatedUser();
 
         user.setCodingPreferenceWeight(request.getCodingPreference());
         user.setCommunicationPreferenceWeight(request.getCommunicationPreference());
         userRepository.save(user);
+        userProfileCache.invalidate(user.getId());
+        recommendationMaterializer.invalidate(user.getId());
 
         return new UserMeResponse(
                 user.getId(),
@@ -67,21 +64,23 @@ public class UserService {
         );
     }
 
+    /** Changes the password and revokes every token the user holds, so the caller has to log in again. */
     public void changePassword(ChangePasswordRequest request) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not authenticated");
-        }
-
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+        User user = getAuthenticatedUser();
 
         if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Current password is incorrect");
         }
 
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        user.setPasswordVersion(user.getPasswordVersion() + 1);
         userRepository.save(user);
+        userProfileCache.invalidate(user.getId());
+        revocationList.revokeAllFor(user.getId());
+    }
+
+    private User getAuthenticatedUser() {
+        return userRepository.findById(AuthenticatedUser.current().id())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
     }
 }
@@ -0,0 +1,83 @@
+package com.smartevent.service;
+
+import static com.smartevent.service.RecommendationScoringEngine.CODING_WEIGHT;
+import static com.smartevent.service.RecommendationScoringEngine.COMMUNICATION_WEIGHT;
+import static com.smartevent.service.RecommendationScoringEngine.INTEREST_MATCH_WEIGHT;
+import static com.smartevent.service.RecommendationScoringEngine.ONLINE_BONUS;
+import static com.smartevent.service.RecommendationScoringEngine.POPULARITY_WEIGHT;
+import static com.smartevent.service.RecommendationScoringEngine.SAME_LOCATION_BONUS;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link ScoringKernel} on the incubating Vector API: the preferred double species, with int columns
+ * loaded at the same lane count and widened. Every lane performs the scalar formula's operations in
+ * the same order, so results are bit-identical to {@link ScoringColumns#score}. Only instantiated by
+ * {@link ScoringKernel#select} when the module is present.
+ */
+final class VectorScoringKernel implements ScoringKernel {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLES.length() * Integer.SIZE));
+
+    @Override
+    public void score(ScoringColumns columns,
+                      ScoringColumns.Parameters parameters,
+                      long[] interestMatches,
+                      int from,
+                      int to,
+                      double[] out) {
+        int slot = from;
+        if (!parameters.coldStart()) {
+            int lanes = DOUBLES.length();
+            // Scalar prefix up to a lane-aligned slot; lane counts divide 64, so an aligned chunk's
+            // interest bits never straddle two words.
+            int aligned = Math.min(to, (from + lanes - 1) / lanes * lanes);
+            for (; slot < aligned; slot++) {
+                out[slot] = columns.score(slot, parameters, ScoringKernel.isSet(interestMatches, slot));
+            }
+            int bound = slot + DOUBLES.loopBound(to - slot);
+            DoubleVector zero = DoubleVector.zero(DOUBLES);
+            IntVector userLocation = IntVector.broadcast(INTS, parameters.locationId());
+            double codingPreference = parameters.codingPreference();
+            double communicationPreference = parameters.communicationPreference();
+
+            for (; slot < bound; slot += lanes) {
+                VectorMask<Double> interest = VectorMask.fromLong(DOUBLES, interestWord(interestMatches, slot));
+                VectorMask<Double> sameLocation = IntVector.fromArray(INTS, columns.locationIds, slot)
+                        .eq(userLocation)
+                        .cast(DOUBLES);
+                VectorMask<Double> online = IntVector.fromArray(INTS, columns.online, slot)
+                        .eq(1)
+                        .cast(DOUBLES);
+
+                DoubleVector score = zero.add(zero.blend(INTEREST_MATCH_WEIGHT, interest));
+                score = score.add(widen(columns.coding, slot).mul(CODING_WEIGHT).mul(codingPreference));
+                score = score.add(widen(columns.communication, slot)
+                        .mul(COMMUNICATION_WEIGHT)
+                        .mul(communicationPreference));
+                score = score.add(widen(columns.popularity, slot).mul(POPULARITY_WEIGHT));
+                score = score.add(zero.blend(ONLINE_BONUS, online).blend(SAME_LOCATION_BONUS, sameLocation));
+                score.intoArray(out, slot);
+            }
+        }
+        for (; slot < to; slot++) {
+            out[slot] = columns.score(slot, parameters, ScoringKernel.isSet(interestMatches, slot));
+        }
+    }
+
+    private static DoubleVector widen(int[] column, int offset) {
+        return (DoubleVector) IntVector.fromArray(INTS, column, offset).convertShape(VectorOperators.I2D, DOUBLES, 0);
+    }
+
+    private static long interestWord(long[] bits, int offset) {
+        int word = offset >>> 6;
+        return word < bits.length ? bits[word] >>> (offset & 63) : 0L;
+    }
+}
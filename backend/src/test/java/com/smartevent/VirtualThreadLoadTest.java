@@ -0,0 +1,179 @@
+package com.smartevent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartevent.entity.User;
+import com.smartevent.repository.UserRepository;
+import com.smartevent.security.JwtUtil;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the application twice, with {@code spring.threads.virtual.enabled} off and on, against an
+ * in-memory database behind a 10-connection Hikari pool and the embedded Ticketmaster stub
+ * answering after a fixed delay. Concurrent clients each read their bookmarks (a blocking JPA
+ * call on the request thread) and their trending events (a profile read on the jdbc scheduler,
+ * then a Ticketmaster fetch that misses the query cache). Tomcat is capped at 10 threads, which
+ * only binds the platform run; JFR records {@code jdk.VirtualThreadPinned} during both.
+ *
+ * <p>It compares wall-clock throughput, so it only runs with {@code mvn test -Pload-tests}.</p>
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+    private static final int POOL_SIZE = 10;
+    private static final int CLIENTS = 100;
+    private static final long UPSTREAM_DELAY_MS = 300;
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void virtualThreadsShouldDecoupleThroughputFromUpstreamLatency() throws Exception {
+        LoadResult platform = runAgainstApplication(false);
+        LoadResult virtual = runAgainstApplication(true);
+
+        logger.info("platform threads: {} req/s, {} pinned; virtual threads: {} req/s, {} pinned",
+                String.format("%.1f", platform.throughput()), platform.pinnedEvents(),
+                String.format("%.1f", virtual.throughput()), virtual.pinnedEvents());
+        virtual.pinnedFrames().forEach((frame, count) -> logger.warn("Pinned {} times at {}", count, frame));
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+        assertThat(virtual.pinnedEvents()).isZero();
+        // Same machine, same pool and upstream: only the thread model differs between the runs.
+        assertThat(virtual.throughput()).isGreaterThan(platform.throughput());
+    }
+
+    private LoadResult runAgainstApplication(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SmartEventApplication.class)
+                .run(arguments(virtualThreads))) {
+            String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+            // Warm-up and measured clients are distinct users, so every measured request misses the query cache.
+            List<String> warmUp = seedUsers(context, "warm-up", CLIENTS);
+            List<String> measured = seedUsers(context, "measured", CLIENTS);
+
+            runLoad(baseUrl, warmUp);
+
+            AtomicInteger pinnedEvents = new AtomicInteger();
+            Map<String, Integer> pinnedFrames = new ConcurrentHashMap<>();
+            long nanos;
+            int failures;
+            try (RecordingStream recording = new RecordingStream()) {
+                recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(10)).withStackTrace();
+                recording.onEvent("jdk.VirtualThreadPinned", event -> {
+                    pinnedEvents.incrementAndGet();
+                    if (event.getStackTrace() != null) {
+                        event.getStackTrace().getFrames().stream()
+                                .filter(RecordedFrame::isJavaFrame)
+                                .findFirst()
+                                .ifPresent(frame -> pinnedFrames.merge(
+                                        frame.getMethod().getType().getName() + "." + frame.getMethod().getName(),
+                                        1, Integer::sum));
+                    }
+                });
+                recording.startAsync();
+
+                long start = System.nanoTime();
+                failures = runLoad(baseUrl, measured);
+                nanos = System.nanoTime() - start;
+                recording.stop();
+            }
+            return new LoadResult(CLIENTS * 2 / (nanos / 1e9), failures, pinnedEvents.get(), pinnedFrames);
+        }
+    }
+
+    /** Passed as command-line arguments, which override application.yml. */
+    private String[] arguments(boolean virtualThreads) {
+        Map<String, Object> properties = Map.ofEntries(
+                Map.entry("server.port", 0),
+                Map.entry("server.tomcat.threads.max", POOL_SIZE),
+                Map.entry("spring.threads.virtual.enabled", virtualThreads),
+                Map.entry("spring.datasource.url",
+                        "jdbc:h2:mem:load-" + virtualThreads + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1"),
+                Map.entry("spring.datasource.username", "sa"),
+                Map.entry("spring.datasource.password", ""),
+                Map.entry("spring.datasource.hikari.maximum-pool-size", POOL_SIZE),
+                Map.entry("spring.jpa.hibernate.ddl-auto", "create-drop"),
+                Map.entry("app.jwt.secret", SECRET),
+                Map.entry("app.catalog.ingestion-enabled", false),
+                Map.entry("ticketmaster.stub.enabled", true),
+                Map.entry("ticketmaster.stub.synthetic-events", 20),
+                Map.entry("ticketmaster.stub.total-pages", 1),
+                Map.entry("ticketmaster.stub.latency.distribution", "FIXED"),
+                Map.entry("ticketmaster.stub.latency.median-ms", UPSTREAM_DELAY_MS),
+                Map.entry("ticketmaster.fetch.max-pages", 1),
+                Map.entry("ticketmaster.resilience.max-concurrent-calls", CLIENTS * 2),
+                Map.entry("ticketmaster.client.max-connections", CLIENTS * 2),
+                Map.entry("logging.level.com.smartevent.service", "WARN"));
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+
+    /** Users with distinct locations, so their trending queries do not share a cache entry. */
+    private List<String> seedUsers(ConfigurableApplicationContext context, String prefix, int count) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setEmail(prefix + "-" + i + "@example.com");
+            user.setPassword("not-used");
+            user.setLocation(prefix.charAt(0) + String.format("%03d", i));
+            tokens.add(jwtUtil.generateToken(userRepository.save(user)));
+        }
+        return tokens;
+    }
+
+    /** Runs one client per token concurrently; returns the number of failed requests. */
+    private int runLoad(String baseUrl, List<String> tokens) {
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<?>> clients = tokens.stream()
+                .<CompletableFuture<?>>map(token -> get(baseUrl + "/api/users/bookmarks", token, failures)
+                        .thenCompose(ignored -> get(baseUrl + "/api/recommendations/trending", token, failures)))
+                .toList();
+        CompletableFuture.allOf(clients.toArray(CompletableFuture[]::new)).join();
+        return failures.get();
+    }
+
+    private CompletableFuture<Void> get(String url, String token, AtomicInteger failures) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, ex) -> {
+                    if (ex != null || response.statusCode() != 200) {
+                        failures.incrementAndGet();
+                    }
+                    return null;
+                });
+    }
+
+    private record LoadResult(double throughput, int failures, int pinnedEvents, Map<String, Integer> pinnedFrames) {
+    }
+}
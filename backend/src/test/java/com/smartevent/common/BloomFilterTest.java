@@ -0,0 +1,41 @@
+package com.smartevent.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    void shouldContainEveryAddedId() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            filter.add(id);
+        }
+
+        assertThat(ids).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void shouldKeepFalsePositivesNearConfiguredRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(UUID.randomUUID());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+}
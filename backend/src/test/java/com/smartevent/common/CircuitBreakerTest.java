@@ -0,0 +1,79 @@
+package com.smartevent.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<CircuitBreaker.Transition> transitions = new ArrayList<>();
+    private final CircuitBreaker breaker = new CircuitBreaker("test", 10, 4, 50, 80, 200, 1000, 2,
+            transitions::add, clock::get);
+
+    @Test
+    void shouldStayClosedUntilMinimumCallsAreRecorded() {
+        breaker.onError(FAST);
+        breaker.onError(FAST);
+        breaker.onError(FAST);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onError(FAST);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void shouldOpenWhenSlowCallRateIsExceeded() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onSuccess(SLOW);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulTrialCalls() {
+        tripOpen();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(transitions).extracting(CircuitBreaker.Transition::to).containsExactly(
+                CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldReopenWhenTrialCallsFail() {
+        tripOpen();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+        breaker.tryAcquirePermission();
+        breaker.tryAcquirePermission();
+        breaker.onSuccess(FAST);
+        breaker.onError(FAST);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void tripOpen() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onError(FAST);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
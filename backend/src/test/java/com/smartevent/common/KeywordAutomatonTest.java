@@ -0,0 +1,52 @@
+package com.smartevent.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class KeywordAutomatonTest {
+
+    private static final int TECH = 0;
+    private static final int EVENT = 1;
+    private static final int CLOUD = 2;
+
+    private final KeywordAutomaton automaton = KeywordAutomaton.builder()
+            .add("ai", TECH)
+            .add("developer*", TECH)
+            .add("hackathon", EVENT)
+            .add("cloud computing", CLOUD)
+            .build();
+
+    @Test
+    void shouldOnlyMatchWholeWords() {
+        assertThat(automaton.match("He said it was a Mountain retreat")).isZero();
+        assertThat(automaton.match("AI-powered Search")).isEqualTo(1L << TECH);
+        assertThat(automaton.match("Intro to ai")).isEqualTo(1L << TECH);
+        assertThat(automaton.match("Hackathons near you")).isZero();
+    }
+
+    @Test
+    void shouldMatchPrefixKeywordsWithAnyEnding() {
+        assertThat(automaton.match("Developers Day")).isEqualTo(1L << TECH);
+        assertThat(automaton.match("Predevelopers")).isZero();
+    }
+
+    @Test
+    void shouldReportEverySlotInOnePass() {
+        long mask = automaton.match("Global CLOUD Computing Hackathon for developers");
+
+        assertThat(mask).isEqualTo((1L << TECH) | (1L << EVENT) | (1L << CLOUD));
+    }
+
+    @Test
+    void shouldFollowFailureLinksAcrossOverlappingKeywords() {
+        KeywordAutomaton overlapping = KeywordAutomaton.builder()
+                .add("data", 0)
+                .add("big data summit", 1)
+                .build();
+
+        assertThat(overlapping.match("big data")).isEqualTo(1L);
+        assertThat(overlapping.match("Big Data Summit 2026")).isEqualTo(0b11L);
+        assertThat(overlapping.match("big big data")).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,98 @@
+package com.smartevent.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RefreshingCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private RefreshingCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RefreshingCache<>(1_000, 500, 2, now::get);
+    }
+
+    @Test
+    void shouldCoalesceConcurrentMisses() {
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<String> first = cache.get("k", () -> {
+            loads.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<String> second = cache.get("k", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        upstream.complete("v1");
+
+        assertThat(first.join()).isEqualTo("v1");
+        assertThat(second.join()).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.coalescedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeStaleValueWhileRefreshing() {
+        cache.get("k", () -> CompletableFuture.completedFuture("v1")).join();
+        now.addAndGet(2_000_000_000L);
+
+        CompletableFuture<String> refresh = new CompletableFuture<>();
+        assertThat(cache.get("k", () -> refresh).join()).isEqualTo("v1");
+        assertThat(cache.staleHitCount()).isEqualTo(1);
+
+        refresh.complete("v2");
+        assertThat(cache.get("k", () -> CompletableFuture.completedFuture("unused")).join()).isEqualTo("v2");
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepStaleValueWhenRefreshFails() {
+        cache.get("k", () -> CompletableFuture.completedFuture("v1")).join();
+        now.addAndGet(2_000_000_000L);
+
+        assertThat(cache.get("k", () -> CompletableFuture.failedFuture(new IllegalStateException("down"))).join())
+                .isEqualTo("v1");
+        assertThat(cache.loadFailureCount()).isEqualTo(1);
+
+        // Backed off: no new load is attempted until the failure backoff has passed.
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("k", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture("v2");
+        }).join();
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void shouldPropagateFailureWithoutStaleValue() {
+        CompletableFuture<String> result =
+                cache.get("k", () -> CompletableFuture.failedFuture(new IllegalStateException("down")));
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldEvictEldestEntryWhenFull() {
+        cache.get("a", () -> CompletableFuture.completedFuture("1")).join();
+        now.addAndGet(1);
+        cache.get("b", () -> CompletableFuture.completedFuture("2")).join();
+        now.addAndGet(1);
+        cache.get("c", () -> CompletableFuture.completedFuture("3")).join();
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("b", () -> CompletableFuture.completedFuture("x")).join()).isEqualTo("2");
+        assertThat(cache.get("a", () -> CompletableFuture.completedFuture("reloaded")).join()).isEqualTo("reloaded");
+    }
+}
@@ -0,0 +1,40 @@
+package com.smartevent.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TagBitsTest {
+
+    @Test
+    void shouldEncodeAcrossWordsAndSkipUnknownIds() {
+        long[] bits = TagBits.of(3, 64, 130, -1, 3);
+
+        assertThat(bits).hasSize(3);
+        assertThat(TagBits.contains(bits, 64)).isTrue();
+        assertThat(TagBits.contains(bits, 63)).isFalse();
+        assertThat(TagBits.contains(bits, 500)).isFalse();
+        List<Integer> ids = new ArrayList<>();
+        TagBits.forEach(bits, ids::add);
+        assertThat(ids).containsExactly(3, 64, 130);
+    }
+
+    @Test
+    void shouldFindLowestCommonId() {
+        long[] interests = TagBits.of(2, 70, 129);
+
+        assertThat(TagBits.firstCommon(TagBits.of(129, 70), interests)).isEqualTo(70);
+        assertThat(TagBits.firstCommon(TagBits.of(1, 64), interests)).isEqualTo(-1);
+        assertThat(TagBits.firstCommon(TagBits.EMPTY, interests)).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldTreatMissingAndZeroWordsAsEmpty() {
+        assertThat(TagBits.of()).isSameAs(TagBits.EMPTY);
+        assertThat(TagBits.isEmpty(null)).isTrue();
+        assertThat(TagBits.isEmpty(new long[2])).isTrue();
+        assertThat(TagBits.isEmpty(TagBits.of(0))).isFalse();
+    }
+}
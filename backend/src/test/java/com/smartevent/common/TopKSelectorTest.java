@@ -0,0 +1,57 @@
+package com.smartevent.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TopKSelectorTest {
+
+    @Test
+    void shouldMatchFullSortOnRandomInput() {
+        Random random = new Random(42);
+        double[] scores = new double[1_000];
+        for (int i = 0; i < scores.length; i++) {
+            // Coarse scores force plenty of ties.
+            scores[i] = random.nextInt(50);
+        }
+        TopKSelector selector = new TopKSelector(25, Integer::compare);
+        for (int i = 0; i < scores.length; i++) {
+            selector.offer(scores[i], i);
+        }
+
+        int[] expected = IntStream.range(0, scores.length).boxed()
+                .sorted(Comparator.<Integer>comparingDouble(i -> scores[i]).reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(25)
+                .mapToInt(Integer::intValue)
+                .toArray();
+        assertThat(selector.drainDescending()).containsExactly(expected);
+        assertThat(selector.size()).isZero();
+    }
+
+    @Test
+    void shouldReturnEverythingWhenFewerThanK() {
+        TopKSelector selector = new TopKSelector(10, Integer::compare);
+        selector.offer(1.0, 0);
+        selector.offer(3.0, 1);
+        selector.offer(2.0, 2);
+
+        assertThat(selector.drainDescending()).containsExactly(1, 2, 0);
+    }
+
+    @Test
+    void shouldRejectCandidatesThatDoNotBeatTheWeakest() {
+        TopKSelector selector = new TopKSelector(2, Integer::compare);
+        assertThat(selector.offer(5.0, 0)).isTrue();
+        assertThat(selector.offer(4.0, 1)).isTrue();
+        assertThat(selector.offer(4.0, 2)).isFalse();
+        assertThat(selector.offer(6.0, 3)).isTrue();
+        assertThat(new TopKSelector(0, Integer::compare).offer(1.0, 0)).isFalse();
+
+        assertThat(Arrays.stream(selector.drainDescending()).boxed()).containsExactly(3, 0);
+    }
+}
@@ -0,0 +1,138 @@
+package com.smartevent.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartevent.config.TokenRevocationProperties;
+import com.smartevent.entity.Role;
+import com.smartevent.entity.User;
+import com.smartevent.repository.RevokedTokenRepository;
+import com.smartevent.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private final User user = new User();
+    private JwtUtil jwtUtil;
+    private CustomUserDetailsService userDetailsService;
+    private TokenRevocationList revocationList;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+        user.setEmail("dev@example.com");
+        user.setPassword("hash");
+        user.setRole(Role.ROLE_USER);
+        jwtUtil = new JwtUtil(SECRET, 60_000, 600_000);
+        userDetailsService = mock(CustomUserDetailsService.class);
+        revocationList = new TokenRevocationList(mock(RevokedTokenRepository.class), mock(UserRepository.class),
+                new TokenRevocationProperties(), mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 600_000);
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, revocationList);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldAuthenticateFromClaimsWithoutLookup() throws Exception {
+        Authentication authentication = filter(jwtUtil.generateToken(user));
+
+        assertThat(authentication.getPrincipal())
+                .isEqualTo(new AuthenticatedUser(user.getId(), "dev@example.com", Role.ROLE_USER));
+        assertThat(authentication.getName()).isEqualTo("dev@example.com");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+        verify(userDetailsService, never()).loadAuthenticatedUser(anyString());
+    }
+
+    @Test
+    void shouldRejectRefreshAndTamperedTokens() throws Exception {
+        String token = jwtUtil.generateToken(user);
+
+        assertThat(filter(jwtUtil.generateRefreshToken(user))).isNull();
+        assertThat(filter(token.substring(0, token.length() - 2) + "xx")).isNull();
+        assertThat(jwtUtil.verify(jwtUtil.generateRefreshToken(user)).userId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    void shouldRejectRevokedTokens() throws Exception {
+        String revoked = jwtUtil.generateToken(user);
+        String kept = jwtUtil.generateToken(user);
+        VerifiedToken verified = jwtUtil.verify(revoked);
+
+        revocationList.revoke(verified.tokenId(), verified.userId(), verified.expiresAt());
+
+        assertThat(filter(revoked)).isNull();
+        assertThat(filter(kept)).isNotNull();
+    }
+
+    @Test
+    void shouldLookUpUserForTokensWithoutClaims() throws Exception {
+        String legacy = legacyToken(new Date());
+        AuthenticatedUser stored = new AuthenticatedUser(user.getId(), user.getEmail(), Role.ROLE_ADMIN);
+        when(userDetailsService.loadAuthenticatedUser(user.getEmail())).thenReturn(stored);
+
+        Authentication authentication = filter(legacy);
+
+        assertThat(authentication.getPrincipal()).isEqualTo(stored);
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void shouldApplyUserCutoffToTokensWithoutClaims() throws Exception {
+        // Issued well before the cutoff, which has second precision.
+        String legacy = legacyToken(new Date(System.currentTimeMillis() - 10_000));
+        when(userDetailsService.loadAuthenticatedUser(user.getEmail()))
+                .thenReturn(new AuthenticatedUser(user.getId(), user.getEmail(), Role.ROLE_USER));
+        assertThat(filter(legacy)).isNotNull();
+
+        revocationList.revokeAllFor(user.getId());
+
+        assertThat(filter(legacy)).isNull();
+    }
+
+    private String legacyToken(Date issuedAt) {
+        return Jwts.builder()
+                .setSubject(user.getEmail())
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private Authentication filter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
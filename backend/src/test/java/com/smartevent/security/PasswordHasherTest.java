@@ -0,0 +1,84 @@
+package com.smartevent.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.smartevent.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+class PasswordHasherTest {
+
+    @Test
+    void shouldVerifyAndReportWeakerHashes() {
+        PasswordHasher hasher = hasher(5, 1, 1);
+        try {
+            String hash = hasher.encode("secret");
+
+            assertThat(hasher.matches("secret", hash)).isTrue();
+            assertThat(hasher.matches("wrong", hash)).isFalse();
+            assertThat(hasher.upgradeEncoding(hash)).isFalse();
+            assertThat(hasher.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        } finally {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        // One thread busy with a slow hash and one request queued behind it.
+        PasswordHasher hasher = hasher(12, 1, 1);
+        try {
+            String hash = new BCryptPasswordEncoder(12).encode("secret");
+            CountDownLatch started = new CountDownLatch(2);
+            List<CompletableFuture<Boolean>> pending = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                pending.add(CompletableFuture.supplyAsync(() -> {
+                    started.countDown();
+                    return hasher.matches("secret", hash);
+                }));
+            }
+            started.await(5, TimeUnit.SECONDS);
+            Thread.sleep(50);
+
+            assertThatThrownBy(() -> hasher.matches("secret", hash))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+            for (CompletableFuture<Boolean> future : pending) {
+                assertThat(future.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    void shouldCalibrateWithinBounds() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setMinStrength(4);
+        properties.setMaxStrength(6);
+        properties.setTargetHashMs(10_000);
+        PasswordHasher hasher = new PasswordHasher(properties, new SimpleMeterRegistry());
+        try {
+            assertThat(hasher.strength()).isEqualTo(6);
+        } finally {
+            hasher.shutdown();
+        }
+    }
+
+    private static PasswordHasher hasher(int strength, int threads, int queueCapacity) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(strength);
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        return new PasswordHasher(properties, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,129 @@
+package com.smartevent.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartevent.config.TokenRevocationProperties;
+import com.smartevent.entity.RevokedToken;
+import com.smartevent.repository.RevokedTokenRepository;
+import com.smartevent.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class TokenRevocationListTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private RevokedTokenRepository revokedTokenRepository;
+    private UserRepository userRepository;
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        userRepository = mock(UserRepository.class);
+        TokenRevocationProperties properties = new TokenRevocationProperties();
+        properties.setExpectedRevocations(4);
+        revocationList = new TokenRevocationList(revokedTokenRepository, userRepository, properties,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), Duration.ofDays(7).toMillis());
+    }
+
+    @Test
+    void shouldLoadRevokedTokensAndCutoffs() {
+        Instant now = Instant.now();
+        UUID revokedId = UUID.randomUUID();
+        when(revokedTokenRepository.findByExpiresAtAfter(any()))
+                .thenReturn(List.of(new RevokedToken(revokedId, userId, now.plusSeconds(600), now)));
+        when(userRepository.findByTokensValidAfterAfter(any())).thenReturn(List.of(cutoff(userId, now)));
+
+        assertThat(revocationList.isRevoked(token(revokedId, UUID.randomUUID(), now))).isTrue();
+        assertThat(revocationList.isRevoked(token(UUID.randomUUID(), userId, now.minusSeconds(60)))).isTrue();
+        assertThat(revocationList.isRevoked(token(UUID.randomUUID(), userId, now.plusSeconds(1)))).isFalse();
+    }
+
+    @Test
+    void shouldGrowFilterAsTokensAreRevoked() {
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            revocationList.revoke(id, userId, expiresAt);
+        }
+
+        assertThat(ids).allMatch(id -> revocationList.isRevoked(token(id, userId, Instant.now())));
+        verify(revokedTokenRepository, times(50)).save(any());
+    }
+
+    @Test
+    void shouldPickUpRevocationsFromOtherInstancesOnSync() {
+        Instant now = Instant.now();
+        UUID elsewhere = UUID.randomUUID();
+        revocationList.loadAtStartup();
+        when(revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(any(), any()))
+                .thenReturn(List.of(new RevokedToken(elsewhere, userId, now.plusSeconds(600), now)));
+
+        assertThat(revocationList.isRevoked(token(elsewhere, userId, now))).isFalse();
+        revocationList.sync();
+        assertThat(revocationList.isRevoked(token(elsewhere, userId, now))).isTrue();
+    }
+
+    @Test
+    void shouldRevokeWhileSyncWaitsForDatabase() throws Exception {
+        revocationList.loadAtStartup();
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenAnswer(invocation -> {
+            querying.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> sync = executor.submit(revocationList::sync);
+            assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+
+            UUID id = UUID.randomUUID();
+            Future<?> revoke = executor.submit(() -> revocationList.revoke(id, userId, Instant.now().plusSeconds(600)));
+            revoke.get(1, TimeUnit.SECONDS);
+            assertThat(revocationList.isRevoked(token(id, userId, Instant.now()))).isTrue();
+
+            release.countDown();
+            sync.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static VerifiedToken token(UUID tokenId, UUID userId, Instant issuedAt) {
+        return new VerifiedToken(tokenId, "dev@example.com", userId, "ROLE_USER", false,
+                issuedAt, issuedAt.plusSeconds(900));
+    }
+
+    private static UserRepository.TokenCutoff cutoff(UUID id, Instant validAfter) {
+        return new UserRepository.TokenCutoff() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public Instant getTokensValidAfter() {
+                return validAfter;
+            }
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package com.smartevent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartevent.common.TagBits;
+import com.smartevent.config.EnrichmentProperties;
+import com.smartevent.config.KeywordProperties;
+import com.smartevent.entity.Event;
+import com.smartevent.repository.EventRepository;
+import com.smartevent.repository.TagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class CatalogTagIndexTest {
+
+    private EventRepository eventRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private TagCatalog tagCatalog;
+    private CatalogTagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        when(eventRepository.findUpcoming(any())).thenReturn(List.of(
+                event("AI Developer Day", "US", 40, "ai", "developer"),
+                event("Cloud Data Summit", "US", 90, "cloud", "data"),
+                event("Data Engineering Meetup", "US", 10, "data"),
+                event("Coding Night", "DE", 95, "coding"),
+                event("Holiday Market", "US", 99, "ai")));
+        CatalogVersionTracker versionTracker = mock(CatalogVersionTracker.class);
+        when(versionTracker.current()).thenReturn(1L);
+        meterRegistry = new SimpleMeterRegistry();
+        tagCatalog = new TagCatalog(mock(TagRepository.class), mock(PlatformTransactionManager.class));
+        index = new CatalogTagIndex(eventRepository,
+                new KeywordClassifier(new KeywordProperties(), new EnrichmentProperties()), versionTracker,
+                tagCatalog, mock(PlatformTransactionManager.class), meterRegistry);
+    }
+
+    @Test
+    void shouldUnionInterestPostingsWithinCountry() {
+        List<Event> candidates = index.candidates("us", tagCatalog.encode(List.of("AI", "data", "unknown")), 0).events();
+
+        // "Holiday Market" is not strict tech and never enters the index; "Coding Night" is in DE.
+        assertThat(candidates).extracting(Event::getTitle)
+                .containsExactlyInAnyOrder("AI Developer Day", "Cloud Data Summit", "Data Engineering Meetup");
+        assertThat(meterRegistry.get("catalog.index.lookup").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("catalog.index.memory").gauge().value()).isPositive();
+    }
+
+    @Test
+    void shouldBackfillWithMostPopularEvents() {
+        assertThat(index.candidates("US", tagCatalog.encode(List.of("ai")), 1).events()).extracting(Event::getTitle)
+                .containsExactlyInAnyOrder("AI Developer Day", "Cloud Data Summit");
+        assertThat(index.candidates(null, TagBits.EMPTY, 2).events()).extracting(Event::getTitle)
+                .containsExactlyInAnyOrder("Coding Night", "Cloud Data Summit");
+    }
+
+    @Test
+    void shouldUseWholeCatalogForUnknownCountryAndRebuildOnUpdate() {
+        assertThat(index.candidates("FR", tagCatalog.encode(List.of("coding")), 0).events()).extracting(Event::getTitle)
+                .containsExactly("Coding Night");
+
+        when(eventRepository.findUpcoming(any())).thenReturn(List.of(event("Coding Dojo", "FR", 50, "coding")));
+        index.onCatalogUpdated(new CatalogUpdatedEvent(new CatalogDelta(2, 1, 0, 0, 0, 0)));
+
+        assertThat(index.candidates("FR", tagCatalog.encode(List.of("coding")), 0).events())
+                .extracting(Event::getTitle)
+                .containsExactly("Coding Dojo");
+    }
+
+    @Test
+    void shouldBuildOnceForConcurrentFirstRequests() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<CandidateSet>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> index.candidates("US", TagBits.EMPTY, 1)));
+            }
+            for (Future<CandidateSet> result : results) {
+                assertThat(result.get().events()).hasSize(1);
+            }
+        }
+
+        verify(eventRepository, times(1)).findUpcoming(any());
+    }
+
+    @Test
+    void shouldServeStartupBuildWithoutQuerying() {
+        index.buildAtStartup();
+        index.candidates("US", TagBits.EMPTY, 1);
+
+        verify(eventRepository, times(1)).findUpcoming(any());
+    }
+
+    private static Event event(String title, String countryCode, int popularity, String... tags) {
+        Event event = new Event();
+        event.setTitle(title);
+        event.setCountryCode(countryCode);
+        event.setPopularityScore(popularity);
+        event.setEventDate(LocalDate.now().plusDays(3));
+        event.setTags(Set.of(tags));
+        return event;
+    }
+}
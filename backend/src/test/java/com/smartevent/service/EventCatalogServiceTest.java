@@ -0,0 +1,107 @@
+package com.smartevent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartevent.config.EnrichmentProperties;
+import com.smartevent.config.KeywordProperties;
+import com.smartevent.dto.ExternalEventDto;
+import com.smartevent.entity.Event;
+import com.smartevent.repository.EventRepository;
+import com.smartevent.repository.TagRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class EventCatalogServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T10:00:00Z");
+
+    private EventRepository eventRepository;
+    private EventCatalogService service;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        when(eventRepository.findByStaleEnrichment(anyInt())).thenReturn(List.of());
+        EnrichmentProperties enrichmentProperties = new EnrichmentProperties();
+        EventEnricher enricher = new EventEnricher(enrichmentProperties,
+                new KeywordClassifier(new KeywordProperties(), enrichmentProperties));
+        service = new EventCatalogService(eventRepository, enricher,
+                new TagCatalog(mock(TagRepository.class), mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    void shouldInsertNewEventsWithFingerprintAndVersion() {
+        when(eventRepository.findAllByExternalIdIn(anyCollection())).thenReturn(List.of());
+
+        CatalogDelta delta = service.applyDelta(List.of(dto("tm-1", "AI Summit")), NOW, NOW.minusSeconds(60), 7);
+
+        Event saved = savedEvents().get(0);
+        assertThat(delta.inserted()).isEqualTo(1);
+        assertThat(delta.changed()).isTrue();
+        assertThat(saved.getContentFingerprint()).hasSize(16);
+        assertThat(saved.getCatalogVersion()).isEqualTo(7);
+        assertThat(saved.getLastSeenAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void shouldOnlyTouchUnchangedEvents() {
+        when(eventRepository.findAllByExternalIdIn(anyCollection())).thenReturn(List.of());
+        service.applyDelta(List.of(dto("tm-1", "AI Summit")), NOW, NOW.minusSeconds(60), 1);
+        Event stored = savedEvents().get(0);
+        when(eventRepository.findAllByExternalIdIn(anyCollection())).thenReturn(List.of(stored));
+
+        CatalogDelta delta = service.applyDelta(List.of(dto("tm-1", "AI Summit")), NOW, NOW.minusSeconds(60), 2);
+
+        assertThat(delta.unchanged()).isEqualTo(1);
+        assertThat(delta.changed()).isFalse();
+        assertThat(stored.getCatalogVersion()).isEqualTo(1);
+        verify(eventRepository).markSeen(eq(List.of("tm-1")), eq(NOW));
+    }
+
+    @Test
+    void shouldRewriteEventsWhoseContentChanged() {
+        when(eventRepository.findAllByExternalIdIn(anyCollection())).thenReturn(List.of());
+        service.applyDelta(List.of(dto("tm-1", "AI Summit")), NOW, NOW.minusSeconds(60), 1);
+        Event stored = savedEvents().get(0);
+        String previous = stored.getContentFingerprint();
+        when(eventRepository.findAllByExternalIdIn(anyCollection())).thenReturn(List.of(stored));
+
+        CatalogDelta delta = service.applyDelta(List.of(dto("tm-1", "AI Summit 2027")), NOW, NOW.minusSeconds(60), 2);
+
+        assertThat(delta.updated()).isEqualTo(1);
+        assertThat(stored.getTitle()).isEqualTo("AI Summit 2027");
+        assertThat(stored.getContentFingerprint()).isNotEqualTo(previous);
+        assertThat(stored.getCatalogVersion()).isEqualTo(2);
+        verify(eventRepository, never()).markSeen(anyCollection(), any());
+        verify(eventRepository, times(2)).tombstoneExpired(any(), any(), anyLong());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Event> savedEvents() {
+        ArgumentCaptor<List<Event>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventRepository, atLeastOnce()).saveAll(captor.capture());
+        return captor.getAllValues().get(0);
+    }
+
+    private static ExternalEventDto dto(String id, String title) {
+        ExternalEventDto dto = new ExternalEventDto(id, title, "Berlin", LocalDate.of(2026, 11, 1));
+        dto.setCountryCode("de");
+        return dto;
+    }
+}
@@ -0,0 +1,57 @@
+package com.smartevent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartevent.config.EnrichmentProperties;
+import com.smartevent.config.KeywordProperties;
+import com.smartevent.dto.ExternalEventDto;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class EventEnricherTest {
+
+    private final EventEnricher enricher = enricher();
+
+    @Test
+    void shouldDeriveIdenticalFeaturesForTheSameEvent() {
+        EventEnricher.Features first = enricher.features("tm-1", "Global AI Hackathon");
+        EventEnricher.Features second = enricher()
+                .features("tm-1", "Global AI Hackathon");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(first.category()).isEqualTo("TECHNOLOGY");
+        assertThat(first.codingImpactScore()).isBetween(90, 100);
+        assertThat(first.communicationImpactScore()).isBetween(60, 75);
+        assertThat(first.popularityScore()).isBetween(50, 100);
+    }
+
+    @Test
+    void shouldSpreadScoresAcrossTheRuleRange() {
+        Set<Integer> popularity = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            popularity.add(enricher.features("tm-" + i, "Developer Summit").popularityScore());
+        }
+
+        assertThat(popularity).hasSizeGreaterThan(40).allSatisfy(score -> assertThat(score).isBetween(50, 100));
+    }
+
+    @Test
+    void shouldKeepScoresProvidedBySource() {
+        ExternalEventDto dto = new ExternalEventDto("feed-1", "Design Workshop", "Remote", LocalDate.now());
+        dto.setPopularityScore(12);
+
+        enricher.enrich(dto);
+
+        assertThat(dto.getPopularityScore()).isEqualTo(12);
+        assertThat(dto.getCategory()).isEqualTo("EDUCATION");
+        assertThat(dto.getCodingImpactScore()).isBetween(70, 85);
+        assertThat(dto.getTags()).containsExactly("education");
+    }
+
+    private static EventEnricher enricher() {
+        EnrichmentProperties enrichmentProperties = new EnrichmentProperties();
+        return new EventEnricher(enrichmentProperties, new KeywordClassifier(new KeywordProperties(), enrichmentProperties));
+    }
+}
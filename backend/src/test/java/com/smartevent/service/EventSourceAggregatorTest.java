@@ -0,0 +1,94 @@
+package com.smartevent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartevent.config.EventSourceProperties;
+import com.smartevent.dto.ExternalEventDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class EventSourceAggregatorTest {
+
+    private static final LocalDate DATE = LocalDate.now().plusDays(7);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldMergeAndPreferEarlierSources() {
+        EventSourceAggregator aggregator = aggregator(List.of("primary", "secondary"),
+                source("secondary", true, query -> Mono.just(List.of(
+                        event("a", "AI Summit"), event("x", "Cloud Day"), event("c", "Data Forum")))),
+                source("primary", true, query -> Mono.just(List.of(
+                        event("a", "AI Summit (primary)"), event("b", "Cloud Day")))));
+
+        List<ExternalEventDto> events = aggregator.fetchEvents(EventQuery.of(null, null)).block();
+
+        assertThat(events).extracting(ExternalEventDto::getTitle)
+                .containsExactlyInAnyOrder("AI Summit (primary)", "Cloud Day", "Data Forum");
+        assertThat(events).extracting(ExternalEventDto::getId).contains("b").doesNotContain("x");
+    }
+
+    @Test
+    void shouldReturnWhatArrivedBeforeTheDeadline() {
+        EventSourceAggregator aggregator = aggregator(List.of("fast", "slow", "broken"),
+                source("fast", true, query -> Mono.just(List.of(event("a", "AI Summit")))),
+                source("slow", true, query -> Mono.delay(Duration.ofSeconds(5))
+                        .thenReturn(List.of(event("b", "Tech Meetup")))),
+                source("broken", true, query -> Mono.error(new IllegalStateException("down"))));
+
+        long started = System.nanoTime();
+        List<ExternalEventDto> events = aggregator.fetchEvents(EventQuery.of(null, null)).block();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(2));
+        assertThat(events).extracting(ExternalEventDto::getId).containsExactly("a");
+        assertThat(meterRegistry.get("event.source.fetch").tag("source", "slow").tag("outcome", "timeout")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOnlyUseCatalogFeedingSourcesForIngestion() {
+        EventSourceAggregator aggregator = aggregator(List.of("upstream", "catalog"),
+                source("upstream", true, query -> Mono.just(List.of(event("a", "AI Summit")))),
+                source("catalog", false, query -> Mono.just(List.of(event("b", "Tech Meetup")))));
+
+        List<ExternalEventDto> events = aggregator.fetchCatalogEvents(EventQuery.of(null, null)).block();
+
+        assertThat(events).extracting(ExternalEventDto::getId).containsExactly("a");
+    }
+
+    private EventSourceAggregator aggregator(List<String> enabled, EventSource... sources) {
+        EventSourceProperties properties = new EventSourceProperties();
+        properties.setEnabled(enabled);
+        properties.setDeadlineMs(300);
+        return new EventSourceAggregator(List.of(sources), properties, meterRegistry);
+    }
+
+    private static ExternalEventDto event(String id, String title) {
+        return new ExternalEventDto(id, title, "Remote", DATE);
+    }
+
+    private static EventSource source(String name, boolean feedsCatalog,
+                                      Function<EventQuery, Mono<List<ExternalEventDto>>> fetch) {
+        return new EventSource() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Mono<List<ExternalEventDto>> fetchEvents(EventQuery query) {
+                return fetch.apply(query);
+            }
+
+            @Override
+            public boolean feedsCatalog() {
+                return feedsCatalog;
+            }
+        };
+    }
+}
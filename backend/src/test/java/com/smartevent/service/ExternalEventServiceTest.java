@@ -0,0 +1,122 @@
+package com.smartevent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartevent.common.CircuitBreaker;
+import com.smartevent.config.EnrichmentProperties;
+import com.smartevent.config.KeywordProperties;
+import com.smartevent.config.TicketmasterProperties;
+import com.smartevent.dto.ExternalEventDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class ExternalEventServiceTest {
+
+    private static final Pattern PAGE = Pattern.compile("[?&]page=(\\d+)");
+
+    private HttpServer upstream;
+    private final Set<Integer> requestedPages = ConcurrentHashMap.newKeySet();
+    private TicketmasterProperties properties;
+    private TicketmasterCallGuard callGuard;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 16);
+        upstream.createContext("/events.json", this::servePage);
+        upstream.start();
+
+        properties = new TicketmasterProperties();
+        properties.setApiKey("test");
+        properties.getFetch().setMaxPages(10);
+        properties.getFetch().setConcurrency(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.stop(0);
+    }
+
+    @Test
+    void shouldFanOutOverPagesAndDeduplicateById() {
+        List<ExternalEventDto> events = service().fetchEvents(EventQuery.of(null, null)).block();
+
+        // Three pages upstream; page 1 repeats an event from page 0.
+        assertThat(requestedPages).containsExactlyInAnyOrder(0, 1, 2);
+        assertThat(events).extracting(ExternalEventDto::getId)
+                .containsExactlyInAnyOrder("e0", "e1", "e2", "e3");
+        assertThat(events).allSatisfy(dto -> assertThat(dto.getCodingImpactScore()).isNotNull());
+    }
+
+    @Test
+    void shouldStopOnceTargetEventCountIsReached() {
+        properties.getFetch().setTargetEvents(2);
+
+        List<ExternalEventDto> events = service().fetchEvents(EventQuery.of(null, null)).block();
+
+        assertThat(events).hasSize(2);
+    }
+
+    @Test
+    void shouldFailOversizedPageAsBreakerFailure() {
+        properties.getFetch().setMaxResponseBytes(64);
+        properties.getResilience().setSlidingWindowSize(1);
+        properties.getResilience().setMinimumCalls(1);
+
+        List<ExternalEventDto> events = service().fetchEvents(EventQuery.of(null, null)).block();
+
+        // Page 0 is a few hundred bytes; it is rejected rather than buffered and parsed.
+        assertThat(events).isEmpty();
+        assertThat(requestedPages).containsExactly(0);
+        assertThat(callGuard.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private ExternalEventService service() {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + upstream.getAddress().getPort())
+                .build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        KeywordClassifier keywordClassifier = new KeywordClassifier(new KeywordProperties(), new EnrichmentProperties());
+        callGuard = new TicketmasterCallGuard(properties, meterRegistry);
+        return new ExternalEventService(webClient, properties, new ObjectMapper(), callGuard,
+                new EventEnricher(new EnrichmentProperties(), keywordClassifier), keywordClassifier, meterRegistry);
+    }
+
+    private void servePage(HttpExchange exchange) throws IOException {
+        Matcher matcher = PAGE.matcher(exchange.getRequestURI().getRawQuery());
+        int page = matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+        requestedPages.add(page);
+
+        String events = switch (page) {
+            case 0 -> event("e0") + "," + event("e1");
+            case 1 -> event("e1") + "," + event("e2");
+            default -> event("e3");
+        };
+        byte[] body = ("{\"_embedded\":{\"events\":[" + events + "]},\"page\":{\"totalPages\":3,\"number\":" + page + "}}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private String event(String id) {
+        return "{\"id\":\"" + id + "\",\"name\":\"Developer Meetup " + id + "\","
+                + "\"classifications\":[{\"segment\":{\"name\":\"Miscellaneous\"}}]}";
+    }
+}
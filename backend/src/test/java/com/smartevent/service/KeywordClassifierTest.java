@@ -0,0 +1,60 @@
+package com.smartevent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartevent.config.EnrichmentProperties;
+import com.smartevent.config.KeywordProperties;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class KeywordClassifierTest {
+
+    @Test
+    void shouldClassifyTitleInOnePass() {
+        KeywordClassifier classifier = new KeywordClassifier(new KeywordProperties(), new EnrichmentProperties());
+
+        KeywordClassifier.Classification result = classifier.classify("Weekend Hackathon for Developers");
+
+        assertThat(result.relevant()).isTrue();
+        assertThat(result.strictTech()).isTrue();
+        assertThat(result.category()).isEqualTo("TECHNOLOGY");
+        assertThat(result.impactRule().getKeyword()).isEqualTo("hackathon*");
+        assertThat(result.reasons()).containsExactly("Competitive hands-on learning");
+    }
+
+    @Test
+    void shouldNotTreatEmbeddedLettersAsKeywords() {
+        KeywordClassifier classifier = new KeywordClassifier(new KeywordProperties(), new EnrichmentProperties());
+
+        KeywordClassifier.Classification result = classifier.classify("Mountain Craft Fair");
+
+        assertThat(result.relevant()).isFalse();
+        assertThat(result.category()).isEqualTo(KeywordClassifier.DEFAULT_CATEGORY);
+        assertThat(result.impactRule()).isNull();
+    }
+
+    @Test
+    void shouldUseConfiguredDictionaries() {
+        KeywordProperties keywords = new KeywordProperties();
+        keywords.setRelevant(List.of("robotics"));
+        keywords.getCategories().put("TECHNOLOGY", List.of("robotics"));
+
+        KeywordClassifier classifier = new KeywordClassifier(keywords, new EnrichmentProperties());
+
+        assertThat(classifier.isRelevant("Robotics Expo")).isTrue();
+        assertThat(classifier.isRelevant("AI Expo")).isFalse();
+        assertThat(classifier.classify("Robotics Expo").category()).isEqualTo("TECHNOLOGY");
+    }
+
+    @Test
+    void shouldReplaceDefaultCategoriesInConfiguredOrder() {
+        KeywordProperties keywords = new KeywordProperties();
+        keywords.getCategories().put("EDUCATION", List.of("workshop*"));
+        keywords.getCategories().put("TECHNOLOGY", List.of("developer*"));
+
+        KeywordClassifier classifier = new KeywordClassifier(keywords, new EnrichmentProperties());
+
+        assertThat(classifier.classify("Developer Workshop").category()).isEqualTo("EDUCATION");
+        assertThat(classifier.classify("Design Sprint").category()).isEqualTo(KeywordClassifier.DEFAULT_CATEGORY);
+    }
+}
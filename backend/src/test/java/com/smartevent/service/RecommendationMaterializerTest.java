@@ -0,0 +1,161 @@
+package com.smartevent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartevent.config.EnrichmentProperties;
+import com.smartevent.config.KeywordProperties;
+import com.smartevent.config.RecommendationProperties;
+import com.smartevent.entity.Event;
+import com.smartevent.entity.EventMode;
+import com.smartevent.entity.User;
+import com.smartevent.repository.TagRepository;
+import com.smartevent.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class RecommendationMaterializerTest {
+
+    private final User user = new User();
+    private EventCatalogService eventCatalogService;
+    private CatalogVersionTracker versionTracker;
+    private RecommendationScoringEngine scoringEngine;
+    private RecommendationMaterializer materializer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+        user.setInterests(Set.of("ai"));
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        eventCatalogService = mock(EventCatalogService.class);
+        when(eventCatalogService.findUpcomingEvents(any())).thenReturn(events(8));
+        versionTracker = mock(CatalogVersionTracker.class);
+        when(versionTracker.current()).thenReturn(1L);
+
+        KeywordClassifier keywordClassifier = new KeywordClassifier(new KeywordProperties(), new EnrichmentProperties());
+        RecommendationProperties properties = new RecommendationProperties();
+        TagCatalog tagCatalog = new TagCatalog(mock(TagRepository.class), mock(PlatformTransactionManager.class));
+        scoringEngine = new RecommendationScoringEngine(keywordClassifier, tagCatalog, properties, ForkJoinPool.commonPool());
+        properties.setMaterializedSize(5);
+        properties.setRefreshParallelism(1);
+        properties.setCandidateIndexEnabled(false);
+        materializer = new RecommendationMaterializer(userRepository,
+                new RecommendationCandidateProvider(eventCatalogService, keywordClassifier, null, tagCatalog, properties),
+                scoringEngine, versionTracker, properties, mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        materializer.shutdown();
+    }
+
+    @Test
+    void shouldComputeOnceAndServeLookups() {
+        MaterializedRecommendations first = materializer.get(user);
+        MaterializedRecommendations second = materializer.get(user);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.catalogVersion()).isEqualTo(1);
+        assertThat(first.events()).hasSize(5);
+        assertThat(first.complete()).isFalse();
+        verify(eventCatalogService, times(1)).findUpcomingEvents(any());
+    }
+
+    @Test
+    void shouldPageWithinListAndDeferPastItsEnd() {
+        MaterializedRecommendations materialized = materializer.get(user);
+        List<RecommendationScoringEngine.ScoredEvent> expected =
+                scoringEngine.evaluateAll(user, eventCatalogService.findUpcomingEvents(null), 8);
+
+        RecommendationScoringEngine.RankedPage firstPage = materialized.page(3, null);
+
+        assertThat(firstPage.events()).extracting(scored -> scored.event().getId())
+                .containsExactlyElementsOf(expected.subList(0, 3).stream().map(scored -> scored.event().getId()).toList());
+        assertThat(firstPage.next()).isNotNull();
+        // Only two stored events follow, and the ranking was cut off, so the next full page is not known.
+        assertThat(materialized.page(3, firstPage.next())).isNull();
+        assertThat(materialized.page(1, firstPage.next()).events()).hasSize(1);
+    }
+
+    @Test
+    void shouldRefreshActiveUsersInBackground() throws InterruptedException {
+        MaterializedRecommendations initial = materializer.get(user);
+        when(versionTracker.current()).thenReturn(2L);
+        when(eventCatalogService.findUpcomingEvents(any())).thenReturn(events(3));
+
+        materializer.onCatalogUpdated(new CatalogUpdatedEvent(new CatalogDelta(2, 1, 0, 0, 0, 0)));
+
+        MaterializedRecommendations refreshed = awaitVersion(2);
+        assertThat(refreshed).isNotSameAs(initial);
+        assertThat(refreshed.events()).hasSize(3);
+        assertThat(refreshed.complete()).isTrue();
+    }
+
+    @Test
+    void shouldRecomputeAfterInvalidation() throws InterruptedException {
+        materializer.get(user);
+        when(eventCatalogService.findUpcomingEvents(any())).thenReturn(events(2));
+
+        materializer.invalidate(user.getId());
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (materializer.get(user).events().size() != 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(materializer.get(user).events()).hasSize(2);
+    }
+
+    @Test
+    void shouldServeListWhenRefreshIsRejected() {
+        MaterializedRecommendations initial = materializer.get(user);
+        materializer.shutdown();
+        when(versionTracker.current()).thenReturn(2L);
+
+        assertThat(materializer.lookup(user.getId())).isSameAs(initial);
+        assertThat(materializer.lookup(user.getId())).isSameAs(initial);
+        assertThat((Set<?>) ReflectionTestUtils.getField(materializer, "queued")).isEmpty();
+    }
+
+    private MaterializedRecommendations awaitVersion(long version) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        MaterializedRecommendations current = materializer.get(user);
+        while (current.catalogVersion() < version && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            current = materializer.get(user);
+        }
+        return current;
+    }
+
+    private static List<Event> events(int count) {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Event event = new Event();
+            ReflectionTestUtils.setField(event, "id", UUID.randomUUID());
+            event.setTitle("AI Developer Meetup " + i);
+            event.setTags(Set.of("ai"));
+            event.setCodingImpactScore(50 + i);
+            event.setCommunicationImpactScore(50);
+            event.setPopularityScore(60);
+            event.setMode(EventMode.OFFLINE);
+            event.setEventDate(LocalDate.now().plusDays(7));
+            events.add(event);
+        }
+        return events;
+    }
+}
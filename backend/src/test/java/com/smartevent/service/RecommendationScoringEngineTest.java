@@ -1,23 +1,49 @@
 package com.smartevent.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
-
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.smartevent.config.EnrichmentProperties;
+import com.smartevent.config.KeywordProperties;
+import com.smartevent.config.RecommendationProperties;
 import com.smartevent.entity.Event;
 import com.smartevent.entity.EventMode;
+import com.smartevent.entity.Tag;
 import com.smartevent.entity.User;
+import com.smartevent.repository.TagRepository;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
 
 class RecommendationScoringEngineTest {
 
+     private TagCatalog tagCatalog;
      private RecommendationScoringEngine scoringEngine;
 
      @BeforeEach
      void setUp() {
-        scoringEngine = new RecommendationScoringEngine();
+        // Scoring only looks tags up; these are the tags ingestion would have interned.
+        TagRepository tagRepository = mock(TagRepository.class);
+        when(tagRepository.findAll(any(Sort.class))).thenReturn(List.of(
+                new Tag(0, "ai"), new Tag(1, "java"), new Tag(2, "python"), new Tag(3, "engineering")));
+        tagCatalog = new TagCatalog(tagRepository, mock(PlatformTransactionManager.class));
+        scoringEngine = new RecommendationScoringEngine(
+                new KeywordClassifier(new KeywordProperties(), new EnrichmentProperties()),
+                tagCatalog,
+                new RecommendationProperties(),
+                ForkJoinPool.commonPool());
      }
 
     @Test
@@ -77,4 +103,138 @@ class RecommendationScoringEngineTest {
 
         assertThat(highScore - lowScore).isEqualTo(24.0);
     }
+
+    @Test
+    void shouldReturnTopKInScoreOrder() {
+        User user = new User();
+        user.setInterests(Set.of("AI"));
+        user.setCodingPreferenceWeight(1.0);
+        user.setCommunicationPreferenceWeight(0.0);
+
+        List<Event> events = new ArrayList<>();
+        for (int coding = 0; coding <= 100; coding += 10) {
+            events.add(event("Event " + coding, coding, coding % 20 == 0 ? Set.of("ai") : Set.of()));
+        }
+
+        List<RecommendationScoringEngine.ScoredEvent> top = scoringEngine.evaluateAll(user, events, 3);
+
+        assertThat(top).extracting(scored -> scored.event().getTitle())
+                .containsExactly("Event 100", "Event 80", "Event 60");
+        assertThat(top).allSatisfy(scored -> assertThat(scored.finalScore())
+                .isEqualTo(scoringEngine.evaluate(user, scored.event()).finalScore()));
+        assertThat(scoringEngine.explain(top.get(0))).contains("interest in ai");
+    }
+
+    @Test
+    void shouldBreakTiesByEventIdAndHandleSmallInputs() {
+        User user = new User();
+        Event second = event("Second", 50, Set.of());
+        Event first = event("First", 50, Set.of());
+        ReflectionTestUtils.setField(second, "id", new UUID(0, 2));
+        ReflectionTestUtils.setField(first, "id", new UUID(0, 1));
+        List<Event> events = List.of(second, first);
+
+        assertThat(scoringEngine.evaluateAll(user, events, 5)).extracting(scored -> scored.event().getTitle())
+                .containsExactly("First", "Second");
+        assertThat(scoringEngine.evaluateAll(user, List.of(), 5)).isEmpty();
+        assertThat(scoringEngine.evaluateAll(user, events, 0)).isEmpty();
+    }
+
+    @Test
+    void shouldPageThroughAllEventsWithCursor() {
+        User user = new User();
+        user.setCodingPreferenceWeight(1.0);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            // Only a few distinct scores, so pages have to split runs of ties.
+            Event event = event("Event " + i, (i % 4) * 10, Set.of());
+            ReflectionTestUtils.setField(event, "id", UUID.randomUUID());
+            events.add(event);
+        }
+        List<RecommendationScoringEngine.ScoredEvent> expected = scoringEngine.evaluateAll(user, events, events.size());
+
+        List<RecommendationScoringEngine.ScoredEvent> paged = new ArrayList<>();
+        RecommendationCursor cursor = null;
+        int pages = 0;
+        do {
+            String token = cursor == null ? null : cursor.encode();
+            RecommendationScoringEngine.RankedPage page =
+                    scoringEngine.evaluatePage(user, events, 5, RecommendationCursor.decode(token));
+            paged.addAll(page.events());
+            cursor = page.next();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(5);
+        assertThat(paged).extracting(scored -> scored.event().getId())
+                .containsExactlyElementsOf(expected.stream().map(scored -> scored.event().getId()).toList());
+        assertThatThrownBy(() -> RecommendationCursor.decode("not-a-cursor"))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void shouldRenderReasonsOnlyFromRecordedBits() {
+        User user = new User();
+        user.setInterests(Set.of("AI"));
+        Event event = event("Global Hackathon Series", 95, Set.of("ai", "engineering"));
+
+        RecommendationScoringEngine.ScoredEvent scored = scoringEngine.evaluateAll(user, List.of(event), 1).get(0);
+
+        assertThat(scored.matchedInterest()).isEqualTo("ai");
+        assertThat(RecommendationReason.INTEREST_MATCH.isSet(scored.reasons())).isTrue();
+        assertThat(RecommendationReason.CODING_FOCUS.isSet(scored.reasons())).isTrue();
+        assertThat(scoringEngine.reasonCodes(scored))
+                .containsExactly("INTEREST_MATCH", "CODING_FOCUS", "HANDS_ON_LEARNING", "CURATED");
+        assertThat(scoringEngine.explain(scored)).isEqualTo("This event aligns with your interest in ai.; "
+                + "Strong coding-focused event; Competitive hands-on learning; Curated tech event recommendation");
+        assertThat(scoringEngine.explain(scored)).isEqualTo(scoringEngine.evaluate(user, event).explanation());
+    }
+
+    @Test
+    void shouldRankIdenticallyWhenScoringInParallel() {
+        RecommendationProperties properties = new RecommendationProperties();
+        properties.setParallelScoringThreshold(1);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            RecommendationScoringEngine parallelEngine = new RecommendationScoringEngine(
+                    new KeywordClassifier(new KeywordProperties(), new EnrichmentProperties()), tagCatalog, properties, pool);
+            User user = new User();
+            user.setInterests(Set.of("ai"));
+            user.setCodingPreferenceWeight(1.0);
+            List<Event> events = new ArrayList<>();
+            for (int i = 0; i < 40_000; i++) {
+                // Few distinct scores and some missing ids, so partitions disagree only on tie-breaks.
+                Event event = event("Event " + i, (i * 7919 % 11) * 10, i % 3 == 0 ? Set.of("ai") : Set.of());
+                if (i % 5 != 0) {
+                    ReflectionTestUtils.setField(event, "id", new UUID(0, i * 7919L % 40_000));
+                }
+                events.add(event);
+            }
+
+            assertThat(parallelEngine.evaluateAll(user, events, 500))
+                    .containsExactlyElementsOf(scoringEngine.evaluateAll(user, events, 500));
+
+            List<Event> identified = events.stream().filter(event -> event.getId() != null).toList();
+            RecommendationScoringEngine.RankedPage sequentialPage = scoringEngine.evaluatePage(user, identified, 50, null);
+            RecommendationScoringEngine.RankedPage parallelPage = parallelEngine.evaluatePage(user, identified, 50, null);
+            for (int page = 0; page < 3; page++) {
+                assertThat(parallelPage).isEqualTo(sequentialPage);
+                sequentialPage = scoringEngine.evaluatePage(user, identified, 50, sequentialPage.next());
+                parallelPage = parallelEngine.evaluatePage(user, identified, 50, parallelPage.next());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Event event(String title, int codingImpact, Set<String> tags) {
+        Event event = new Event();
+        event.setTitle(title);
+        event.setTags(tags);
+        event.setCodingImpactScore(codingImpact);
+        event.setCommunicationImpactScore(0);
+        event.setPopularityScore(50);
+        event.setMode(EventMode.OFFLINE);
+        return event;
+    }
 }
@@ -0,0 +1,100 @@
+package com.smartevent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.smartevent.config.EnrichmentProperties;
+import com.smartevent.config.KeywordProperties;
+import com.smartevent.config.RecommendationProperties;
+import com.smartevent.entity.Event;
+import com.smartevent.entity.EventMode;
+import com.smartevent.entity.User;
+import com.smartevent.repository.TagRepository;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ScoringKernelTest {
+
+    private static final String[] LOCATIONS = {"Berlin", "berlin", "Online", "Austin", null};
+
+    private final Random random = new Random(7);
+
+    @Test
+    void shouldUseVectorKernelWhenModuleIsPresent() {
+        // Surefire runs with --add-modules jdk.incubator.vector.
+        assertThat(ScoringKernel.select(true)).isInstanceOf(VectorScoringKernel.class);
+        assertThat(ScoringKernel.select(false)).isNotInstanceOf(VectorScoringKernel.class);
+    }
+
+    @Test
+    void shouldMatchScalarKernelBitForBit() {
+        // An odd size exercises the scalar tail after the vector loop.
+        ScoringColumns columns = ScoringColumns.of(randomEvents(100_003));
+        BitSet interests = new BitSet();
+        for (int slot = 0; slot < columns.size(); slot++) {
+            if (random.nextInt(5) == 0) {
+                interests.set(slot);
+            }
+        }
+
+        for (double coding : new double[] {0.0, 0.37, 1.0}) {
+            ScoringColumns.Parameters parameters = new ScoringColumns.Parameters(
+                    false, coding, 1.0 - coding, columns.locationId("BERLIN"), LocalDate.now().toEpochDay());
+            double[] scalar = new double[columns.size()];
+            double[] vector = new double[columns.size()];
+
+            long[] interestWords = interests.toLongArray();
+            ScoringKernel.scalar().score(columns, parameters, interestWords, 0, columns.size(), scalar);
+            // An unaligned split exercises the scalar prefix before the first full lane.
+            VectorScoringKernel kernel = new VectorScoringKernel();
+            kernel.score(columns, parameters, interestWords, 0, 37_001, vector);
+            kernel.score(columns, parameters, interestWords, 37_001, columns.size(), vector);
+
+            assertThat(vector).containsExactly(scalar);
+        }
+    }
+
+    @Test
+    void shouldMatchPerEventScoring() {
+        RecommendationScoringEngine engine = new RecommendationScoringEngine(
+                new KeywordClassifier(new KeywordProperties(), new EnrichmentProperties()),
+                new TagCatalog(mock(TagRepository.class), mock(PlatformTransactionManager.class)),
+                new RecommendationProperties(),
+                ForkJoinPool.commonPool());
+        User user = new User();
+        user.setInterests(Set.of("ai"));
+        user.setLocation("Berlin");
+        user.setCodingPreferenceWeight(0.8);
+        Event[] events = randomEvents(1_000);
+
+        RecommendationScoringEngine.ScoredEvent best = engine.evaluateAll(user, List.of(events), 1).get(0);
+        double expected = Double.NEGATIVE_INFINITY;
+        for (Event event : events) {
+            expected = Math.max(expected, engine.evaluate(user, event).finalScore());
+        }
+
+        assertThat(best.finalScore()).isEqualTo(expected);
+    }
+
+    private Event[] randomEvents(int count) {
+        Event[] events = new Event[count];
+        for (int i = 0; i < count; i++) {
+            Event event = new Event();
+            event.setTitle("Event " + i);
+            event.setCodingImpactScore(random.nextInt(10) == 0 ? null : random.nextInt(101));
+            event.setCommunicationImpactScore(random.nextInt(101));
+            event.setPopularityScore(random.nextInt(101));
+            event.setMode(random.nextBoolean() ? EventMode.ONLINE : EventMode.OFFLINE);
+            event.setLocation(LOCATIONS[random.nextInt(LOCATIONS.length)]);
+            event.setTags(random.nextBoolean() ? Set.of("ai") : Set.of("cloud"));
+            events[i] = event;
+        }
+        return events;
+    }
+}
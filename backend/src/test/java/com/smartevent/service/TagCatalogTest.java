@@ -0,0 +1,75 @@
+package com.smartevent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartevent.common.TagBits;
+import com.smartevent.entity.Event;
+import com.smartevent.entity.Tag;
+import com.smartevent.entity.User;
+import com.smartevent.repository.TagRepository;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class TagCatalogTest {
+
+    private TagRepository tagRepository;
+    private TagCatalog tagCatalog;
+
+    @BeforeEach
+    void setUp() {
+        tagRepository = mock(TagRepository.class);
+        when(tagRepository.findAll(any(Sort.class))).thenReturn(List.of(new Tag(0, "ai"), new Tag(1, "cloud")));
+        tagCatalog = new TagCatalog(tagRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void shouldKeepPersistedIdsAndAppendNewTags() {
+        long[] bits = tagCatalog.encode(Set.of(" Cloud ", "Rust", ""));
+
+        ArgumentCaptor<Tag> saved = ArgumentCaptor.forClass(Tag.class);
+        verify(tagRepository).save(saved.capture());
+        assertThat(saved.getValue().getId()).isEqualTo(2);
+        assertThat(saved.getValue().getName()).isEqualTo("rust");
+        assertThat(bits).containsExactly(TagBits.of(1, 2));
+        assertThat(tagCatalog.name(2)).isEqualTo("rust");
+    }
+
+    @Test
+    void shouldOnlyLookUpTagsOnReadPaths() {
+        Event event = new Event();
+        event.setTags(Set.of("AI", "rust"));
+        User user = new User();
+        user.setInterests(Set.of("cloud", "go"));
+
+        assertThat(tagCatalog.tagBits(event)).containsExactly(TagBits.of(0));
+        assertThat(tagCatalog.interestBits(user)).containsExactly(TagBits.of(1));
+        assertThat(tagCatalog.idOf("rust")).isEqualTo(-1);
+        verify(tagRepository, never()).save(any(Tag.class));
+    }
+
+    @Test
+    void shouldReloadWhenAnotherInstanceTookTheId() {
+        when(tagRepository.save(any(Tag.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        tagCatalog.intern("ai");
+        when(tagRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(new Tag(0, "ai"), new Tag(1, "cloud"), new Tag(2, "java")));
+
+        assertThat(tagCatalog.intern("rust")).isEqualTo(3);
+        assertThat(tagCatalog.intern("java")).isEqualTo(2);
+        verify(tagRepository, times(2)).save(any(Tag.class));
+    }
+}
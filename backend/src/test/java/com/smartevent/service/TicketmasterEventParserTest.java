@@ -0,0 +1,92 @@
+package com.smartevent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.smartevent.dto.ExternalEventDto;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TicketmasterEventParserTest {
+
+    private static final String PAYLOAD = """
+            {
+              "_links": {"self": {"href": "/events.json"}},
+              "_embedded": {
+                "events": [
+                  {
+                    "images": [{"url": "a.jpg", "width": 100}, {"url": "b.jpg"}],
+                    "classifications": [{"segment": {"id": "1", "name": "Miscellaneous"}}, {"segment": {"name": "Music"}}],
+                    "_embedded": {
+                      "venues": [
+                        {"name": "Hall", "city": {"name": "Berlin"}, "country": {"countryCode": "DE"}},
+                        {"city": {"name": "Ignored"}}
+                      ],
+                      "attractions": [{"name": "x"}]
+                    },
+                    "dates": {"start": {"localDate": "2026-11-02", "localTime": "10:00:00"}},
+                    "name": "Developer Day",
+                    "id": "tm-1",
+                    "sales": {"public": {"startDateTime": "2026-01-01T00:00:00Z"}}
+                  },
+                  {
+                    "id": "tm-2",
+                    "name": "Rock Night",
+                    "classifications": [{"segment": {"name": "Music"}}]
+                  },
+                  {
+                    "id": "tm-3",
+                    "name": "Data Meetup",
+                    "dates": {"start": {"localDate": "not-a-date"}},
+                    "classifications": [{"segment": {"name": "Miscellaneous"}}]
+                  }
+                ]
+              },
+              "page": {"size": 20, "totalElements": 3, "totalPages": 4, "number": 0}
+            }
+            """;
+
+    @Test
+    void shouldReadOnlyRequiredFieldsAndApplyFilter() throws IOException {
+        List<String> seenSegments = new ArrayList<>();
+
+        TicketmasterEventParser.ParseResult result = parse(PAYLOAD, (segment, title) -> {
+            seenSegments.add(segment);
+            return "Miscellaneous".equals(segment);
+        });
+
+        assertThat(result.totalFetched()).isEqualTo(3);
+        assertThat(result.totalPages()).isEqualTo(4);
+        assertThat(seenSegments).containsExactly("Miscellaneous", "Music", "Miscellaneous");
+        assertThat(result.events()).extracting(ExternalEventDto::getId).containsExactly("tm-1", "tm-3");
+
+        ExternalEventDto first = result.events().get(0);
+        assertThat(first.getTitle()).isEqualTo("Developer Day");
+        assertThat(first.getEventDate()).isEqualTo(LocalDate.of(2026, 11, 2));
+        assertThat(first.getLocation()).isEqualTo("Berlin");
+        assertThat(first.getCountryCode()).isEqualTo("DE");
+
+        ExternalEventDto second = result.events().get(1);
+        assertThat(second.getEventDate()).isNull();
+        assertThat(second.getLocation()).isNull();
+    }
+
+    @Test
+    void shouldReturnEmptyResultWithoutEmbeddedEvents() throws IOException {
+        TicketmasterEventParser.ParseResult result = parse("{\"page\": {\"totalElements\": 0}}", (segment, title) -> true);
+
+        assertThat(result.totalFetched()).isZero();
+        assertThat(result.events()).isEmpty();
+    }
+
+    private TicketmasterEventParser.ParseResult parse(String json,
+                                                     TicketmasterEventParser.RelevanceFilter filter) throws IOException {
+        try (JsonParser parser = new JsonFactory().createParser(json)) {
+            return TicketmasterEventParser.parse(parser, filter);
+        }
+    }
+}
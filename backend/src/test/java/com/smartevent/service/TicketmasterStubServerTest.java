@@ -0,0 +1,98 @@
+package com.smartevent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartevent.config.EnrichmentProperties;
+import com.smartevent.config.KeywordProperties;
+import com.smartevent.config.TicketmasterProperties;
+import com.smartevent.dto.ExternalEventDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class TicketmasterStubServerTest {
+
+    private TicketmasterProperties properties;
+    private TicketmasterStubServer stub;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TicketmasterProperties();
+        properties.setApiKey("test");
+        properties.getStub().getLatency().setMedianMs(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (stub != null) {
+            stub.stop();
+        }
+    }
+
+    @Test
+    void shouldReplayBundledRecording() {
+        List<ExternalEventDto> events = startAndFetch();
+
+        assertThat(events).extracting(ExternalEventDto::getId)
+                .containsExactlyInAnyOrder("rec-0001", "rec-0002", "rec-0003", "rec-0005", "rec-0006");
+    }
+
+    @Test
+    void shouldGenerateSyntheticPages() {
+        properties.getStub().setSyntheticEvents(10);
+        properties.getStub().setTotalPages(3);
+
+        List<ExternalEventDto> events = startAndFetch();
+
+        assertThat(events).hasSize(30);
+        assertThat(stub.getServedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldInjectConfiguredErrors() {
+        properties.getStub().setSyntheticEvents(10);
+        properties.getStub().setErrorRate(1.0);
+
+        List<ExternalEventDto> events = startAndFetch();
+
+        assertThat(events).isEmpty();
+        assertThat(stub.getFailedCount()).isPositive();
+    }
+
+    @Test
+    void shouldSampleLogNormalLatencyAroundMedian() {
+        TicketmasterProperties.Latency latency = properties.getStub().getLatency();
+        latency.setDistribution(TicketmasterProperties.Latency.Distribution.LOG_NORMAL);
+        latency.setMedianMs(100);
+        latency.setP99Ms(1000);
+        properties.getStub().setSyntheticEvents(1);
+        TicketmasterStubServer server = new TicketmasterStubServer(properties.getStub());
+
+        int belowMedian = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long sample = server.sampleLatencyMs();
+            assertThat(sample).isBetween(0L, 10_000L);
+            if (sample < 100) {
+                belowMedian++;
+            }
+        }
+
+        assertThat(belowMedian).isBetween(4_500, 5_500);
+    }
+
+    private List<ExternalEventDto> startAndFetch() {
+        stub = new TicketmasterStubServer(properties.getStub());
+        stub.start();
+        WebClient webClient = WebClient.builder().baseUrl(stub.getBaseUrl()).build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        KeywordClassifier keywordClassifier = new KeywordClassifier(new KeywordProperties(), new EnrichmentProperties());
+        ExternalEventService service = new ExternalEventService(webClient, properties, new ObjectMapper(),
+                new TicketmasterCallGuard(properties, meterRegistry),
+                new EventEnricher(new EnrichmentProperties(), keywordClassifier), keywordClassifier, meterRegistry);
+        return service.fetchEvents(EventQuery.of(null, null)).block();
+    }
+}
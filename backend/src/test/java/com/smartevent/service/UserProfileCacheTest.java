@@ -0,0 +1,85 @@
+package com.smartevent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartevent.entity.User;
+import com.smartevent.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class UserProfileCacheTest {
+
+    private UserRepository userRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private UserProfileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findById(any())).thenAnswer(invocation -> Optional.of(user(invocation.getArgument(0))));
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserProfileCache(userRepository, mock(PlatformTransactionManager.class), meterRegistry, 2);
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        UUID id = UUID.randomUUID();
+
+        UserProfile first = cache.get(id).orElseThrow();
+        UserProfile second = cache.get(id).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.interests()).containsExactly("ai");
+        verify(userRepository, times(1)).findById(id);
+        assertThat(meterRegistry.get("user.profile.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldReloadWithNewVersionAfterInvalidation() {
+        UUID id = UUID.randomUUID();
+        UserProfile before = cache.get(id).orElseThrow();
+
+        cache.invalidate(id);
+        UserProfile after = cache.get(id).orElseThrow();
+
+        assertThat(after.version()).isGreaterThan(before.version());
+        verify(userRepository, times(2)).findById(id);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedAndSkipMissingUsers() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        cache.get(a);
+        cache.get(b);
+        cache.get(a);
+        cache.get(UUID.randomUUID());
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.get(a);
+        verify(userRepository, times(1)).findById(a);
+
+        UUID missing = UUID.randomUUID();
+        when(userRepository.findById(missing)).thenReturn(Optional.empty());
+        assertThat(cache.get(missing)).isEmpty();
+    }
+
+    private static User user(UUID id) {
+        User user = new User();
+        ReflectionTestUtils.setField(user, "id", id);
+        user.setEmail(id + "@example.com");
+        user.setInterests(Set.of("ai"));
+        return user;
+    }
+}
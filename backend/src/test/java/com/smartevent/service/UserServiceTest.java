@@ -0,0 +1,77 @@
+package com.smartevent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartevent.dto.ChangePasswordRequest;
+import com.smartevent.entity.Role;
+import com.smartevent.entity.User;
+import com.smartevent.repository.UserRepository;
+import com.smartevent.security.AuthenticatedUser;
+import com.smartevent.security.TokenRevocationList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+class UserServiceTest {
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    private final User user = new User();
+    private UserRepository userRepository;
+    private TokenRevocationList revocationList;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+        user.setEmail("dev@example.com");
+        user.setPassword(passwordEncoder.encode("old-password"));
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        revocationList = mock(TokenRevocationList.class);
+        userService = new UserService(userRepository, passwordEncoder, mock(RecommendationMaterializer.class),
+                mock(UserProfileCache.class), revocationList);
+
+        AuthenticatedUser principal = new AuthenticatedUser(user.getId(), user.getEmail(), Role.ROLE_USER);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                principal, null, List.of(new SimpleGrantedAuthority(Role.ROLE_USER.name()))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldRevokeAllTokensAfterPasswordChange() {
+        userService.changePassword(new ChangePasswordRequest("old-password", "new-password"));
+
+        assertThat(passwordEncoder.matches("new-password", user.getPassword())).isTrue();
+        assertThat(user.getPasswordVersion()).isEqualTo(1);
+        verify(userRepository).save(user);
+        verify(revocationList).revokeAllFor(user.getId());
+    }
+
+    @Test
+    void shouldKeepTokensWhenCurrentPasswordIsWrong() {
+        assertThatThrownBy(() -> userService.changePassword(new ChangePasswordRequest("wrong", "new-password")))
+                .isInstanceOf(ResponseStatusException.class);
+
+        verify(userRepository, never()).save(any());
+        verify(revocationList, never()).revokeAllFor(any());
+    }
+}